@@ -0,0 +1,645 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  Benchmark
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Times the parts of the program that run the most: a single tick against the size of
+	 * the population and the map, evaluating a whole generation, mutating instances and reading and
+	 * writing generations, both in their own files and in the generation log. Each benchmark is warmed
+	 * up first so the JIT has compiled it, then timed over several fixed length iterations, leaving out
+	 * the setting up it needs before each call. The bundled maps are used along with generated maps of
+	 * different sizes, and every population comes from a fixed seed so runs can be compared. Results are
+	 * printed as tab separated rows, and written to a file if one is given, ready to be compared between
+	 * versions.
+	 * Usage: Benchmark [output file] [part of the benchmark names to run]
+	 * Run it from the folder holding final_files.
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+public class Benchmark {
+
+	// Iterations run before timing, and iterations timed
+	public static final int WARMUP_ITERATIONS = 3;
+	public static final int MEASUREMENT_ITERATIONS = 5;
+
+	// Length of each iteration, changed with -Dgame_navigator.benchmarkMillis
+	public static final long ITERATION_NANOS = Long.getLong("game_navigator.benchmarkMillis", 1000) * 1000000;
+
+	// Populations the ticks and generations are timed with
+	public static final int[] POPULATIONS = {10, 100, 1000};
+
+	// Number of objects in the generated maps
+	public static final int[] SYNTHETIC_MAP_SIZES = {50, 500};
+
+	// Mutations made in each call of the mutation benchmark
+	public static final int MUTATIONS_PER_CALL = 1000;
+
+	// Map the file benchmarks write to, deleted once they are done
+	public static final int SCRATCH_MAP = 9999;
+
+	// Generations in the log read at random, enough for several keyframes and their chains of changes
+	public static final int LOG_GENERATIONS = 4 * GenerationFile.KEYFRAME_INTERVAL;
+
+	// Generations appended before the log being appended to is started again, so it stays a few segments long
+	public static final int LOG_APPEND_LIMIT = 1024;
+
+	// Seed of every population and generated map
+	public static final long SEED = 42;
+
+	// The columns of the results
+	public static final String HEADER = "benchmark\tmap\tpopulation\tns_per_op\tstddev_ns\tops_per_second\titerations";
+
+	// Results are added to this so the JIT cannot remove the work
+	private static volatile long sink;
+
+	// One benchmark with its parameters
+	private static abstract class Case {
+
+		private String name;
+		private String map;
+		private int population;
+
+		Case(String nameSet, String mapSet, int populationSet) {
+
+			name = nameSet;
+			map = mapSet;
+			population = populationSet;
+
+		}
+
+		// Prepares the next call of run, outside the time measured
+		void setUp() {
+
+		}
+
+		// Does the work once, returning the number of operations it counts as
+		abstract long run();
+
+	}
+
+	public static void main(String[] args) {
+
+		String outputFile = args.length > 0 ? args[0] : null;
+		String filter = args.length > 1 ? args[1] : "";
+
+		ArrayList<Case> cases = new ArrayList<Case>();
+
+		// The bundled maps, then the generated ones
+		ArrayList<String> mapNames = new ArrayList<String>();
+		ArrayList<Map> maps = new ArrayList<Map>();
+
+		for (int m = 1; new File("final_files/maps/map" + m + "/map.txt").exists(); m++) {
+
+			mapNames.add("map" + m);
+			maps.add(new Map(m));
+
+		}
+
+		for (int size : SYNTHETIC_MAP_SIZES) {
+
+			mapNames.add("synthetic" + size);
+			maps.add(syntheticMap(size, SEED));
+
+		}
+
+		for (int m = 0; m < maps.size(); m++) {
+
+			for (int population : POPULATIONS) {
+
+				cases.add(tickCase(mapNames.get(m), maps.get(m), population));
+				cases.add(generationCase(mapNames.get(m), maps.get(m), population));
+
+			}
+
+		}
+
+		cases.add(mutationCase());
+
+		StringBuilder results = new StringBuilder(HEADER).append('\n');
+
+		// The files written by the file benchmarks are deleted even if a benchmark fails
+		try {
+
+			for (int population : POPULATIONS) {
+
+				cases.addAll(fileCases(population));
+				cases.addAll(logCases(population));
+
+			}
+
+			System.out.println(HEADER);
+
+			for (Case c : cases) {
+
+				if (!(c.name + " " + c.map).contains(filter)) {
+
+					continue;
+
+				}
+
+				String row = measure(c);
+
+				System.out.println(row);
+				results.append(row).append('\n');
+
+			}
+
+		} finally {
+
+			deleteScratchMap();
+
+		}
+
+		if (outputFile != null) {
+
+			try (Writer output = new OutputStreamWriter(new FileOutputStream(outputFile), "UTF-8")) {
+
+				output.write(results.toString());
+
+			} catch (IOException e) {
+
+				System.out.println("Could not write the results to " + outputFile + ".\nIn game_navigator/Benchmark.");
+				e.printStackTrace();
+
+			}
+
+		}
+
+	}
+
+	// Warms up and times a benchmark, returning its row of results
+	private static String measure(Case c) {
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+
+			iteration(c);
+
+		}
+
+		double[] nanosPerOperation = new double[MEASUREMENT_ITERATIONS];
+		double mean = 0;
+
+		for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+
+			nanosPerOperation[i] = iteration(c);
+			mean += nanosPerOperation[i] / MEASUREMENT_ITERATIONS;
+
+		}
+
+		double variance = 0;
+
+		for (double n : nanosPerOperation) {
+
+			variance += (n - mean) * (n - mean) / Math.max(1, MEASUREMENT_ITERATIONS - 1);
+
+		}
+
+		return String.format(Locale.ROOT, "%s\t%s\t%d\t%.1f\t%.1f\t%.1f\t%d", c.name, c.map, c.population, mean, Math.sqrt(variance),
+				1e9 / mean, MEASUREMENT_ITERATIONS);
+
+	}
+
+	// Runs a benchmark for one iteration, returning the nanoseconds for each operation
+	private static double iteration(Case c) {
+
+		long operations = 0;
+		long timed = 0;
+		long start = System.nanoTime();
+
+		do {
+
+			c.setUp();
+
+			long runStart = System.nanoTime();
+			operations += c.run();
+			timed += System.nanoTime() - runStart;
+
+		} while (System.nanoTime() - start < ITERATION_NANOS);
+
+		return (double) timed / operations;
+
+	}
+
+	/*
+	 * Times single ticks of the engine, running whole generations and counting each tick. The engine,
+	 * the copies of the population and their schedule are made before each generation, untimed, so only
+	 * the ticks themselves are measured.
+	 */
+	private static Case tickCase(String mapName, final Map map, final int population) {
+
+		final Instance[] generation = population(population, SEED);
+
+		return new Case("tick", mapName, population) {
+
+			private SimulationEngine engine;
+			private Instance[] copies;
+			private MovementSchedule schedule;
+
+			@Override
+			void setUp() {
+
+				engine = new SimulationEngine(map);
+				copies = new Instance[generation.length];
+
+				for (int i = 0; i < copies.length; i++) {
+
+					copies[i] = generation[i].mutation(0);
+					engine.addInstance(copies[i]);
+
+				}
+
+				schedule = new MovementSchedule(copies);
+
+			}
+
+			@Override
+			long run() {
+
+				long ticks = 1;
+
+				while (!engine.tick(schedule)) {
+
+					ticks++;
+
+				}
+
+				sink += copies[0].getIntX();
+
+				return ticks;
+
+			}
+
+		};
+
+	}
+
+	// Times evaluating a whole generation at once, as training does
+	private static Case generationCase(String mapName, Map map, int population) {
+
+		final ParallelEvaluator evaluator = new ParallelEvaluator(new PopulationStepper(new SimulationEngine(map).getStaticObjects()));
+		final PopulationStore store = PopulationStore.fromInstances(population(population, SEED));
+
+		return new Case("generation", mapName, population) {
+
+			@Override
+			long run() {
+
+				store.reset();
+				sink += evaluator.evaluate(store)[0];
+
+				return 1;
+
+			}
+
+		};
+
+	}
+
+	// Times mutating an instance into a new one
+	private static Case mutationCase() {
+
+		final Instance parent = population(2, SEED)[1];
+		final SplittableRandom random = new SplittableRandom(SEED);
+
+		return new Case("mutation", "-", 1) {
+
+			@Override
+			long run() {
+
+				for (int i = 0; i < MUTATIONS_PER_CALL; i++) {
+
+					sink += parent.mutation(LearningManager.MUTATION_PERCENT, random).getMovements()[0].getLength();
+
+				}
+
+				return MUTATIONS_PER_CALL;
+
+			}
+
+		};
+
+	}
+
+	// Times encoding, decoding, writing and reading a generation in the binary and text formats
+	private static ArrayList<Case> fileCases(final int population) {
+
+		final Instance[] generation = population(population, SEED);
+		final ByteBuffer encoded = GenerationFile.encode(generation);
+
+		// The text format, as generations were saved before the binary one
+		final String[][] text = new String[generation.length][LearningManager.MOVEMENT_NUMBER * 4];
+
+		for (int i = 0; i < generation.length; i++) {
+
+			for (int j = 0; j < LearningManager.MOVEMENT_NUMBER; j++) {
+
+				Movement m = generation[i].getMovements()[j];
+
+				text[i][j * 4] = Boolean.toString(m.doesJump());
+				text[i][j * 4 + 1] = Boolean.toString(m.movesLeft());
+				text[i][j * 4 + 2] = Boolean.toString(m.movesRight());
+				text[i][j * 4 + 3] = Integer.toString(m.getLength());
+
+			}
+
+		}
+
+		GenerationFile.write(generation, SCRATCH_MAP, population);
+		GeneralMethods.writeToFile(text, GeneralMethods.GENERATION_DATA_TYPE, population, SCRATCH_MAP);
+
+		ArrayList<Case> cases = new ArrayList<Case>();
+
+		cases.add(new Case("encode", "-", population) {
+
+			@Override
+			long run() {
+
+				sink += GenerationFile.encode(generation).remaining();
+
+				return 1;
+
+			}
+
+		});
+
+		cases.add(new Case("decode", "-", population) {
+
+			@Override
+			long run() {
+
+				try {
+
+					sink += GenerationFile.decode(encoded.duplicate()).length;
+
+				} catch (IOException e) {
+
+					throw new UncheckedIOException(e);
+
+				}
+
+				return 1;
+
+			}
+
+		});
+
+		cases.add(new Case("binaryWrite", "-", population) {
+
+			@Override
+			long run() {
+
+				GenerationFile.write(generation, SCRATCH_MAP, population);
+
+				return 1;
+
+			}
+
+		});
+
+		cases.add(new Case("binaryRead", "-", population) {
+
+			@Override
+			long run() {
+
+				sink += GenerationFile.read(SCRATCH_MAP, population).length;
+
+				return 1;
+
+			}
+
+		});
+
+		cases.add(new Case("textWrite", "-", population) {
+
+			@Override
+			long run() {
+
+				GeneralMethods.writeToFile(text, GeneralMethods.GENERATION_DATA_TYPE, population, SCRATCH_MAP);
+
+				return 1;
+
+			}
+
+		});
+
+		cases.add(new Case("textRead", "-", population) {
+
+			@Override
+			long run() {
+
+				sink += GeneralMethods.readFile(GenerationFile.textFileName(SCRATCH_MAP, population)).length;
+
+				return 1;
+
+			}
+
+		});
+
+		return cases;
+
+	}
+
+	/*
+	 * Times appending generations to a log and reading them back at random, the way training saves and
+	 * loads them. The generations follow on from each other as in training, so most are stored as
+	 * changes and reading one decodes its chain back to the last keyframe.
+	 */
+	private static ArrayList<Case> logCases(final int population) {
+
+		final ByteBuffer[] payloads = new ByteBuffer[LOG_GENERATIONS];
+		final int[] numbers = new int[LOG_GENERATIONS];
+
+		Instance[] previous = null;
+		Instance[] generation = population(population, SEED);
+		SplittableRandom random = new SplittableRandom(SEED);
+
+		for (int n = 0; n < LOG_GENERATIONS; n++) {
+
+			// Every generation after the first is made from an instance of the one before, as in training
+			if (previous != null) {
+
+				generation = new Instance[population];
+				generation[0] = previous[previous.length - 1].mutation(0, random.split());
+
+				for (int i = 1; i < population; i++) {
+
+					generation[i] = generation[0].mutation(LearningManager.MUTATION_PERCENT, random.split());
+
+				}
+
+			}
+
+			numbers[n] = n + 1;
+			payloads[n] = GenerationFile.encode(generation, previous, numbers[n]);
+			previous = generation;
+
+		}
+
+		final File readFolder = new File(scratchFolder(), "log" + population);
+		final GenerationLog readLog = new GenerationLog(readFolder);
+
+		readLog.append(numbers, duplicates(payloads));
+
+		final File appendFolder = new File(scratchFolder(), "appendLog" + population);
+
+		ArrayList<Case> cases = new ArrayList<Case>();
+
+		cases.add(new Case("logAppend", "-", population) {
+
+			private GenerationLog log;
+			private int appended;
+
+			@Override
+			long run() {
+
+				// Starts the log again once it is long enough
+				if (log == null || appended == LOG_APPEND_LIMIT) {
+
+					deleteRecursively(appendFolder);
+					log = new GenerationLog(appendFolder);
+					appended = 0;
+
+				}
+
+				log.append(new int[] {appended + 1}, new ByteBuffer[] {payloads[appended % LOG_GENERATIONS].duplicate()});
+				appended++;
+
+				return 1;
+
+			}
+
+		});
+
+		cases.add(new Case("logRead", "-", population) {
+
+			private SplittableRandom readRandom = new SplittableRandom(SEED);
+
+			@Override
+			long run() {
+
+				sink += readLog.read(1 + readRandom.nextInt(LOG_GENERATIONS)).length;
+
+				return 1;
+
+			}
+
+		});
+
+		return cases;
+
+	}
+
+	// Returns copies of buffers that can be read without moving the originals
+	private static ByteBuffer[] duplicates(ByteBuffer[] buffers) {
+
+		ByteBuffer[] copies = new ByteBuffer[buffers.length];
+
+		for (int i = 0; i < buffers.length; i++) {
+
+			copies[i] = buffers[i].duplicate();
+
+		}
+
+		return copies;
+
+	}
+
+	// Returns a population made the way the first generation is, from a fixed seed
+	private static Instance[] population(int size, long seed) {
+
+		Movement[] movements = new Movement[LearningManager.MOVEMENT_NUMBER];
+
+		for (int i = 0; i < movements.length; i++) {
+
+			movements[i] = new Movement(true, true, true, 1000 * i);
+
+		}
+
+		Instance[] generation = new Instance[size];
+		generation[0] = new Instance(movements);
+
+		SplittableRandom random = new SplittableRandom(seed);
+
+		for (int i = 1; i < size; i++) {
+
+			generation[i] = generation[i - 1].mutation(LearningManager.MUTATION_PERCENT, random.split());
+
+		}
+
+		return generation;
+
+	}
+
+	/*
+	 * Returns a map of floors and obstacles spread over the screen, with a finish zone at the far right.
+	 * The same size and seed always give the same map.
+	 */
+	public static Map syntheticMap(int objectCount, long seed) {
+
+		SplittableRandom random = new SplittableRandom(seed);
+		ArrayList<GameObject> objects = new ArrayList<GameObject>();
+
+		for (int i = 0; i < objectCount - 1; i++) {
+
+			int x = random.nextInt(GameManager.SCREEN_WIDTH - 100);
+			int y = 200 + random.nextInt(GameManager.SCREEN_HEIGHT - 250);
+
+			// Mostly floors, with an obstacle every few objects
+			if (i % 4 == 3) {
+
+				objects.add(new Obstacle(x, y, 10 + random.nextInt(40), 10 + random.nextInt(40)));
+
+			} else {
+
+				objects.add(new FloorBlock(x, y, 40 + random.nextInt(200), 20));
+
+			}
+
+		}
+
+		objects.add(new FinishZone(GameManager.SCREEN_WIDTH - 100, 200, 80, 80));
+
+		return new Map(objects);
+
+	}
+
+	// Returns the folder the file benchmarks write the generations of the scratch map to
+	private static File scratchFolder() {
+
+		return new File("final_files/maps/map" + SCRATCH_MAP + "/character_data");
+
+	}
+
+	// Deletes the files written by the file benchmarks
+	private static void deleteScratchMap() {
+
+		deleteRecursively(new File("final_files/maps/map" + SCRATCH_MAP));
+
+	}
+
+	// Deletes a file, or a folder and everything in it
+	private static void deleteRecursively(File file) {
+
+		File[] files = file.listFiles();
+
+		if (files != null) {
+
+			for (File f : files) {
+
+				deleteRecursively(f);
+
+			}
+
+		}
+
+		file.delete();
+
+	}
+
+}
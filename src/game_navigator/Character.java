@@ -20,6 +20,11 @@ public class Character extends GameObject {
 	public static final int CHARACTER_HEIGHT = 30;
 	public static final int CHARACTER_WIDTH = 20;
 	
+	// Speed of walking and jumping, and the pull of gravity
+	public static final int MOVE_SPEED = 10;
+	public static final int JUMP_SPEED = 20;
+	public static final int GRAVITY = -1;
+	
 	// Acceleration variables
 	private int xAcceleration;
 	private int yAcceleration;
@@ -30,6 +35,9 @@ public class Character extends GameObject {
 	private boolean doJump;
 
 	private boolean isAlive;
+	
+	// Whether the character was still alive when its generation ended
+	private boolean aliveAtEnd;
 
 
 	// Creates the character
@@ -43,7 +51,7 @@ public class Character extends GameObject {
 		
 		// Start with gravity for acceleration
 		this.xAcceleration = 0;
-		this.yAcceleration = -1;
+		this.yAcceleration = GRAVITY;
 		
 		// Start living
 		isAlive = true;
@@ -67,6 +75,25 @@ public class Character extends GameObject {
 		
 	}
 	
+	// Stops the character as its generation ends, remembering whether it lasted until then
+	public void endGeneration() {
+		
+		if (this.isAlive) {
+			
+			this.aliveAtEnd = true;
+			kill();
+			
+		}
+		
+	}
+	
+	// Returns whether the character was still alive when its generation ended
+	public boolean isAliveAtEnd() {
+		
+		return this.aliveAtEnd;
+		
+	}
+	
 	// Sets the vertical acceleration of the character
 	public void setYAccel(int accel) {
 		
@@ -160,7 +187,7 @@ public class Character extends GameObject {
 		// Gravity if not a bottom collision
 		} else {
 			
-			this.setYAccel(-1);
+			this.setYAccel(GRAVITY);
 			
 		}
 		
@@ -176,13 +203,13 @@ public class Character extends GameObject {
 			// Sets velocity based on the given commands.
 			if (moveRight) {
 
-				this.setXVelocity(10);
+				this.setXVelocity(MOVE_SPEED);
 
 			} 
 			
 			if (moveLeft) {
 
-				this.setXVelocity(-10);
+				this.setXVelocity(-MOVE_SPEED);
 
 			}
 			
@@ -195,7 +222,7 @@ public class Character extends GameObject {
 			// Jump if on the ground
 			if (doJump && this.collidesBottom()) {
 
-				this.setYVelocity(20);
+				this.setYVelocity(JUMP_SPEED);
 
 			}
 
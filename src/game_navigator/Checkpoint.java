@@ -0,0 +1,299 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  Checkpoint
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Everything needed to carry on training a map from the generation about to be run: the
+	 * generation, the results already known of its instances, the seed every random choice comes from
+	 * and the settings the run used. It is written straight after a generation is bred, so it is the
+	 * point a restart continues from, and the instances whose results were known, like the unaltered
+	 * copy of the best one, are not simulated again. The random generators are made from the seed and
+	 * the generation number alone, so the seed is their whole state. Checkpoints are written to a
+	 * temporary file that is then moved over the old one, so a crash never leaves half a checkpoint, and
+	 * a checksum at the end catches any other damage.
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.zip.*;
+
+public class Checkpoint {
+
+	// The bytes every checkpoint starts with
+	public static final int MAGIC = 0x474E4350;
+
+	// The current version of the format
+	public static final byte VERSION = 2;
+
+	// Bytes of the result saved for each instance
+	private static final int FITNESS_SIZE = 1 + 4 * 3 + 1;
+
+	// What was saved
+	private int mapNumber;
+	private int generationNumber;
+	private long runSeed;
+	private int[] settings;
+	private FitnessCache.Fitness[] fitness;
+	private Instance[] generation;
+
+	// Creates a checkpoint of a generation, with the result of each instance or null where it is not known
+	public Checkpoint(int mapNumberSet, int generationNumberSet, long runSeedSet, Instance[] generationSet, FitnessCache.Fitness[] fitnessSet) {
+
+		mapNumber = mapNumberSet;
+		generationNumber = generationNumberSet;
+		runSeed = runSeedSet;
+		settings = currentSettings();
+		generation = generationSet;
+		fitness = fitnessSet;
+
+	}
+
+	// Returns the name of the checkpoint file of a map
+	public static String fileName(int mapNumber) {
+
+		return "final_files/maps/map" + mapNumber + "/character_data/checkpoint.bin";
+
+	}
+
+	// Returns the settings a run depends on, which must match for a checkpoint to be used
+	private static int[] currentSettings() {
+
+		return new int[] {LearningManager.MUTATION_PERCENT, LearningManager.MOVEMENT_NUMBER, LearningManager.POPULATION_COUNT,
+				LearningManager.TIME_GIVEN, SimulationEngine.TICK_LENGTH};
+
+	}
+
+	// Returns whether the checkpoint was made with the same settings as the program has now
+	public boolean matchesSettings() {
+
+		return java.util.Arrays.equals(settings, currentSettings());
+
+	}
+
+	public int getMapNumber() {
+
+		return this.mapNumber;
+
+	}
+
+	public int getGenerationNumber() {
+
+		return this.generationNumber;
+
+	}
+
+	public long getRunSeed() {
+
+		return this.runSeed;
+
+	}
+
+	public Instance[] getGeneration() {
+
+		return this.generation;
+
+	}
+
+	// Returns the result of each instance of the generation, null where it was not known
+	public FitnessCache.Fitness[] getFitness() {
+
+		return this.fitness;
+
+	}
+
+	// Returns the checkpoint in its binary format, ready to be written
+	public ByteBuffer encode() {
+
+		ByteBuffer population = GenerationFile.encode(generation);
+
+		ByteBuffer buffer = ByteBuffer.allocate(5 + 4 * 4 + 8 + settings.length * 4 + fitness.length * FITNESS_SIZE + population.remaining() + 8);
+
+		buffer.putInt(MAGIC);
+		buffer.put(VERSION);
+		buffer.putInt(mapNumber);
+		buffer.putInt(generationNumber);
+		buffer.putLong(runSeed);
+
+		buffer.putInt(settings.length);
+
+		for (int setting : settings) {
+
+			buffer.putInt(setting);
+
+		}
+
+		buffer.putInt(fitness.length);
+
+		// Whether each result is known, then the result or zeros
+		for (FitnessCache.Fitness f : fitness) {
+
+			buffer.put((byte) (f == null ? 0 : 1));
+			buffer.putInt(f == null ? 0 : f.getScore());
+			buffer.putInt(f == null ? 0 : f.getFinishTick());
+			buffer.putInt(f == null ? 0 : f.getFinishZone());
+			buffer.put((byte) (f != null && f.isAliveAtEnd() ? 1 : 0));
+
+		}
+
+		buffer.put(population);
+
+		// Checksum of everything before it
+		CRC32 checksum = new CRC32();
+		checksum.update(buffer.array(), 0, buffer.position());
+		buffer.putLong(checksum.getValue());
+
+		buffer.flip();
+
+		return buffer;
+
+	}
+
+	// Reads the checkpoint of a map, or returns null if there is none or it cannot be used
+	public static Checkpoint read(int mapNumber) {
+
+		Path path = Paths.get(fileName(mapNumber));
+
+		if (!Files.exists(path)) {
+
+			return null;
+
+		}
+
+		try {
+
+			return decode(mapNumber, ByteBuffer.wrap(Files.readAllBytes(path)));
+
+		} catch (IOException e) {
+
+			System.out.println("Could not read the checkpoint of map " + mapNumber + ", it will be ignored.\nIn game_navigator/Checkpoint.");
+			e.printStackTrace();
+
+			return null;
+
+		}
+
+	}
+
+	/*
+	 * Reads a checkpoint of a map from its binary format, or returns null if it cannot be used. A
+	 * damaged checkpoint is reported and ignored.
+	 */
+	public static Checkpoint decode(int mapNumber, ByteBuffer buffer) {
+
+		try {
+
+			if (buffer.limit() < 13) {
+
+				throw new IOException("Too short to be a checkpoint");
+
+			}
+
+			// Checks the checksum first
+			CRC32 checksum = new CRC32();
+			checksum.update(buffer.array(), 0, buffer.limit() - 8);
+
+			if (buffer.getLong(buffer.limit() - 8) != checksum.getValue()) {
+
+				throw new IOException("Checksum does not match");
+
+			}
+
+			if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+
+				throw new IOException("Not a checkpoint of this version");
+
+			}
+
+			Checkpoint checkpoint = new Checkpoint(buffer.getInt(), buffer.getInt(), buffer.getLong(), new Instance[0], new FitnessCache.Fitness[0]);
+
+			checkpoint.settings = new int[buffer.getInt()];
+
+			for (int s = 0; s < checkpoint.settings.length; s++) {
+
+				checkpoint.settings[s] = buffer.getInt();
+
+			}
+
+			checkpoint.fitness = new FitnessCache.Fitness[buffer.getInt()];
+
+			for (int i = 0; i < checkpoint.fitness.length; i++) {
+
+				boolean known = buffer.get() != 0;
+				FitnessCache.Fitness f = new FitnessCache.Fitness(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.get() != 0);
+
+				checkpoint.fitness[i] = known ? f : null;
+
+			}
+
+			buffer.limit(buffer.limit() - 8);
+			checkpoint.generation = GenerationFile.decode(buffer);
+
+			if (checkpoint.generation.length != checkpoint.fitness.length) {
+
+				throw new IOException("Results do not match the generation");
+
+			}
+
+			return checkpoint;
+
+		} catch (IOException | RuntimeException e) {
+
+			System.out.println("Could not read the checkpoint of map " + mapNumber + ", it will be ignored.\nIn game_navigator/Checkpoint.");
+			e.printStackTrace();
+
+			return null;
+
+		}
+
+	}
+
+	// Writes a checkpoint to a temporary file, then moves it over the checkpoint of the map in one step
+	public static void write(int mapNumber, ByteBuffer checkpoint) {
+
+		Path path = Paths.get(fileName(mapNumber));
+		Path temporary = Paths.get(fileName(mapNumber) + ".tmp");
+
+		try {
+
+			Files.createDirectories(path.getParent());
+
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+				ByteBuffer data = checkpoint.duplicate();
+
+				while (data.hasRemaining()) {
+
+					channel.write(data);
+
+				}
+
+				// Makes sure the data is on the disk before it replaces the old checkpoint
+				channel.force(true);
+
+			}
+
+			try {
+
+				Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+			} catch (AtomicMoveNotSupportedException e) {
+
+				Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+
+			}
+
+		} catch (IOException e) {
+
+			System.out.println("Could not write the checkpoint of map " + mapNumber + ".\nIn game_navigator/Checkpoint.");
+			e.printStackTrace();
+
+		}
+
+	}
+
+}
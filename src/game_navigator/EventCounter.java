@@ -0,0 +1,48 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  EventCounter
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Counts events, such as instances evaluated or collisions tested. Threads adding at
+	 * once each add to a cell of their own, so counting from the threads that evaluate a generation does
+	 * not make them wait on each other. Reading the counter never changes it, so any number of readers
+	 * can each work out the rate over their own time from the change in the count.
+	 */
+
+package game_navigator;
+
+import java.util.concurrent.atomic.*;
+
+public class EventCounter implements EventCounterMBean {
+
+	// Number of events counted
+	private LongAdder count = new LongAdder();
+
+	// When counting started
+	private final long startNanos = System.nanoTime();
+
+	// Counts a number of events
+	public void add(long events) {
+
+		count.add(events);
+
+	}
+
+	@Override
+	public long getCount() {
+
+		return count.sum();
+
+	}
+
+	@Override
+	public double getMeanRatePerSecond() {
+
+		long elapsed = System.nanoTime() - startNanos;
+
+		return elapsed == 0 ? 0 : count.sum() * 1e9 / elapsed;
+
+	}
+
+}
@@ -0,0 +1,20 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  EventCounterMBean
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: What an EventCounter shows through JMX.
+	 */
+
+package game_navigator;
+
+public interface EventCounterMBean {
+
+	// Number of events counted since the program started, which only ever goes up
+	long getCount();
+
+	// Mean events each second since the program started. The rate over any shorter time is the change in the count divided by the time
+	double getMeanRatePerSecond();
+
+}
@@ -14,16 +14,11 @@ import java.awt.Color;
 
 public class FinishZone extends GameObject {
 
-	// Reference to the game
-	private GameManager game;
-	
 	// Constructs the object
-	FinishZone(int x, int y, int width, int height, GameManager g) {
+	FinishZone(int x, int y, int width, int height) {
 		
 		// Super class GameObject, does not move
 		super(x, y, width, height, 0, 0);
-		
-		game = g;
 
 		// Finish zones are green
 		this.setColor(Color.GREEN);
@@ -42,10 +37,10 @@ public class FinishZone extends GameObject {
 	@Override
 	public void collision(int collisionType, GameObject collisionObject) {
 		
-		// Complete the learning if the character reached the end
+		// Marks the character as having reached the end, the engine then completes the learning
 		if (collisionObject instanceof Instance) {
 			
-			game.endReached((Instance)collisionObject);
+			((Instance) collisionObject).reachFinish();
 			
 		}
 		
@@ -0,0 +1,213 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  FitnessCache
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Remembers the results of genomes that have already been simulated on a map. The physics
+	 * only use integers and never depend on anything but the map and the movements, so a genome always
+	 * gets the same score on the same map. The unaltered copy of the best instance and any offspring
+	 * that mutation left unchanged are looked up instead of simulated again. The least recently used
+	 * genome is forgotten once the cache is full.
+	 */
+
+package game_navigator;
+
+import java.util.*;
+
+public class FitnessCache {
+
+	// Number of genomes remembered when no size is given
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	// The most genomes remembered at once
+	private int capacity;
+
+	// Results by genome, in order of use from least to most recent
+	private LinkedHashMap<Genome, Fitness> results;
+
+	// Number of lookups that found a result and that did not
+	private long hits;
+	private long misses;
+
+	// Creates a cache of the default size
+	public FitnessCache() {
+
+		this(DEFAULT_CAPACITY);
+
+	}
+
+	// Creates a cache that remembers at most the given number of genomes
+	public FitnessCache(int capacitySet) {
+
+		capacity = capacitySet;
+
+		results = new LinkedHashMap<Genome, Fitness>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(java.util.Map.Entry<Genome, Fitness> eldest) {
+
+				return size() > capacity;
+
+			}
+
+		};
+
+	}
+
+	// Returns the result of a genome on a map, or null if it is not remembered
+	public Fitness get(int mapNumber, Movement[] movements) {
+
+		Fitness fitness = results.get(new Genome(mapNumber, movements));
+
+		if (fitness == null) {
+
+			misses++;
+
+		} else {
+
+			hits++;
+
+		}
+
+		return fitness;
+
+	}
+
+	// Returns the result of a genome on a map without counting the lookup, or null if it is not remembered
+	public Fitness peek(int mapNumber, Movement[] movements) {
+
+		return results.get(new Genome(mapNumber, movements));
+
+	}
+
+	// Remembers the result of a genome on a map
+	public void put(int mapNumber, Movement[] movements, Fitness fitness) {
+
+		results.put(new Genome(mapNumber, movements), fitness);
+
+	}
+
+	// Returns the number of lookups that found a result
+	public long getHits() {
+
+		return this.hits;
+
+	}
+
+	// Returns the number of lookups that did not find a result
+	public long getMisses() {
+
+		return this.misses;
+
+	}
+
+	// Returns the number of genomes remembered
+	public int size() {
+
+		return results.size();
+
+	}
+
+	// Forgets every genome and resets the counters
+	public void clear() {
+
+		results.clear();
+		hits = 0;
+		misses = 0;
+
+	}
+
+	/*
+	 * The result of simulating a genome for a whole generation: its score, the tick and finish zone it
+	 * first reached the end in (0 if it never did), and whether it was still alive when the
+	 * generation ended.
+	 */
+	public static class Fitness {
+
+		private int score;
+		private int finishTick;
+		private int finishZone;
+		private boolean aliveAtEnd;
+
+		public Fitness(int scoreSet, int finishTickSet, int finishZoneSet, boolean aliveAtEndSet) {
+
+			score = scoreSet;
+			finishTick = finishTickSet;
+			finishZone = finishZoneSet;
+			aliveAtEnd = aliveAtEndSet;
+
+		}
+
+		public int getScore() {
+
+			return this.score;
+
+		}
+
+		public int getFinishTick() {
+
+			return this.finishTick;
+
+		}
+
+		public int getFinishZone() {
+
+			return this.finishZone;
+
+		}
+
+		public boolean isAliveAtEnd() {
+
+			return this.aliveAtEnd;
+
+		}
+
+	}
+
+	/*
+	 * A map and the movements of a genome packed into one array. The hash is worked out once, and two
+	 * genomes are only equal if every movement matches, so different genomes never share a result.
+	 */
+	private static class Genome {
+
+		private int[] values;
+		private int hash;
+
+		Genome(int mapNumber, Movement[] movements) {
+
+			values = new int[movements.length * 2 + 1];
+			values[0] = mapNumber;
+
+			for (int j = 0; j < movements.length; j++) {
+
+				values[j * 2 + 1] = movements[j].getLength();
+				values[j * 2 + 2] = (movements[j].doesJump() ? PopulationStore.MOVES_JUMP : 0)
+						| (movements[j].movesLeft() ? PopulationStore.MOVES_LEFT : 0)
+						| (movements[j].movesRight() ? PopulationStore.MOVES_RIGHT : 0);
+
+			}
+
+			hash = Arrays.hashCode(values);
+
+		}
+
+		@Override
+		public int hashCode() {
+
+			return hash;
+
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			return o instanceof Genome && ((Genome) o).hash == hash && Arrays.equals(((Genome) o).values, values);
+
+		}
+
+	}
+
+}
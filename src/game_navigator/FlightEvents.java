@@ -0,0 +1,122 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  FlightEvents
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Java Flight Recorder events for training, so a run that slows down can be matched up
+	 * with garbage collection and file activity in the same recording. Generations, sampled ticks,
+	 * generations loaded for viewing and the files read and written each have an event. The events are
+	 * only made when the program is started with -Dgame_navigator.flightEvents=true, and otherwise
+	 * every place that records one skips it on a constant, so they cost nothing. Once on, they are
+	 * recorded with any recording, e.g. -XX:StartFlightRecording=filename=run.jfr.
+	 */
+
+package game_navigator;
+
+import jdk.jfr.*;
+
+public class FlightEvents {
+
+	// Whether the events are made at all, read once when the program starts
+	public static final boolean ENABLED = Boolean.getBoolean("game_navigator.flightEvents");
+
+	// Category every event is listed under
+	private static final String CATEGORY = "Game Navigator";
+
+	// A generation, from when it started training until the next generation was made from it
+	@Name("game_navigator.Generation")
+	@Label("Generation")
+	@Category(CATEGORY)
+	@Description("Training of one generation, from its start until the next generation is made")
+	static class GenerationEvent extends Event {
+
+		@Label("Map")
+		int mapNumber;
+
+		@Label("Generation")
+		int generationNumber;
+
+		@Label("Population")
+		int population;
+
+		@Label("Best Score")
+		int bestScore;
+
+	}
+
+	// A tick of the engine whose phases were timed, one in Metrics.TICK_SAMPLE_INTERVAL
+	@Name("game_navigator.Tick")
+	@Label("Sampled Tick")
+	@Category(CATEGORY)
+	@Description("A tick of the engine with the time spent in each of its phases")
+	static class TickEvent extends Event {
+
+		@Label("Instances")
+		int instances;
+
+		@Label("Movement")
+		@Timespan(Timespan.NANOSECONDS)
+		long movementNanos;
+
+		@Label("Collision")
+		@Timespan(Timespan.NANOSECONDS)
+		long collisionNanos;
+
+		@Label("Scoring")
+		@Timespan(Timespan.NANOSECONDS)
+		long scoringNanos;
+
+	}
+
+	// A generation loaded to be shown in the game
+	@Name("game_navigator.GenerationLoad")
+	@Label("Generation Load")
+	@Category(CATEGORY)
+	@Description("Loading a generation chosen in the game")
+	static class GenerationLoadEvent extends Event {
+
+		@Label("Map")
+		int mapNumber;
+
+		@Label("Generation")
+		int generationNumber;
+
+		@Label("Population")
+		int population;
+
+	}
+
+	// A text file read by GeneralMethods
+	@Name("game_navigator.FileRead")
+	@Label("Text File Read")
+	@Category(CATEGORY)
+	@Description("A map, generation or information file read")
+	static class FileReadEvent extends Event {
+
+		@Label("Path")
+		String path;
+
+		@Label("Size")
+		@DataAmount
+		long bytes;
+
+	}
+
+	// A text file written by GeneralMethods
+	@Name("game_navigator.FileWrite")
+	@Label("Text File Write")
+	@Category(CATEGORY)
+	@Description("A map, generation or information file written")
+	static class FileWriteEvent extends Event {
+
+		@Label("Path")
+		String path;
+
+		@Label("Size")
+		@DataAmount
+		long bytes;
+
+	}
+
+}
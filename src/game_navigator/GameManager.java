@@ -18,7 +18,6 @@ import java.util.*;
 
 import javax.imageio.*;
 import javax.swing.*;
-import javax.swing.Timer;
 
 public class GameManager implements ActionListener {
 
@@ -33,18 +32,25 @@ public class GameManager implements ActionListener {
 	public static final int MAP_LIST = 11;
 	public static final int GENERATION_LIST = 12;
 
+	// Speeds of the simulation as multiples of real time, and their names in the speed box. Zero is as fast as possible
+	public static final int[] SPEEDS = {1, 10, 100, 0};
+	public static final String[] SPEED_NAMES = {"1x", "10x", "100x", "Max"};
+
 	public static final int SCREEN_WIDTH = 1300;
 	public static final int SCREEN_HEIGHT = 700;
 
-	// List of game objects
-	private ArrayList<GameObject> gameObjects;
-
 	// Map and its number
 	private Map currentMap;
 	private int currentMapNumber;
 	
+	// Engine that runs the physics of the current map
+	private SimulationEngine engine;
+	
 	// Graphics panel and frame
 	private GraphicsWindow graphicsPane;
+	
+	// Positions of the characters passed from the simulation thread to the graphics panel
+	private SnapshotBuffer snapshots = new SnapshotBuffer();
 	private JFrame graphicsFrame;
 	
 	// JComponents in the panel
@@ -52,7 +58,10 @@ public class GameManager implements ActionListener {
 	private JLabel mapImageLabel, generationImageLabel;
 	private BufferedImage mapImage, generationImage;
 	private ImageIcon startIcon, pauseIcon, mapCreationIcon, helpIcon;
-	private JComboBox<String> generationSelection, mapSelection;
+	private JComboBox<String> generationSelection, mapSelection, speedSelection;
+	
+	// Items of the generation selection box, made when they are shown
+	private GenerationListModel generationList = new GenerationListModel();
 	
 	// Whether to call action performed
 	private boolean callActionPerformed;
@@ -77,7 +86,7 @@ public class GameManager implements ActionListener {
 		}
 		
 		// Creates the map and gets its objects
-		currentMap = new Map(currentMapNumber, this);
+		currentMap = new Map(currentMapNumber);
 		
 		// Saves to the first map if there is no map already created
 		if (currentMapNumber == 0) {
@@ -86,17 +95,43 @@ public class GameManager implements ActionListener {
 			
 		}
 		
-		gameObjects = currentMap.getObjects();
+		engine = new SimulationEngine(currentMap);
 		
 		// Creating JPanel
-		graphicsPane = new GraphicsWindow(gameObjects);
+		graphicsPane = new GraphicsWindow(engine.getStaticObjects(), snapshots);
 		
 		// Creating and modifying the selection box
-		generationSelection = new JComboBox<String>();
+		generationSelection = new JComboBox<String>(generationList) {
+			
+			// JComboBox would search every generation for the selected one
+			@Override
+			public int getSelectedIndex() {
+				
+				return generationList.getSelectedIndex();
+				
+			}
+			
+		};
 		generationSelection.setName("generation");
 		generationSelection.addActionListener(this);
 		generationSelection.setBounds(130, 50, 150, 30);
 		
+		// A generation number can be typed in to jump to it
+		generationSelection.setEditable(true);
+		generationSelection.setToolTipText("Type a generation number to go to it");
+		
+		// Sizes come from one item rather than measuring every generation
+		generationSelection.setPrototypeDisplayValue(GenerationListModel.SUCCESSFUL_CHARACTER);
+		
+		// The popup list is only reachable when the look and feel uses the basic popup
+		Object popup = generationSelection.getAccessibleContext().getAccessibleChild(0);
+		
+		if (popup instanceof javax.swing.plaf.basic.ComboPopup) {
+			
+			((javax.swing.plaf.basic.ComboPopup) popup).getList().setPrototypeCellValue(GenerationListModel.SUCCESSFUL_CHARACTER);
+			
+		}
+		
 		try {
 			
 			// Getting the images
@@ -122,18 +157,24 @@ public class GameManager implements ActionListener {
 		mapSelection.addActionListener(this);
 		mapSelection.setBounds(130, 100, 150, 30);
 		
+		// Speed selection box, next to the pause button
+		speedSelection = new JComboBox<String>(SPEED_NAMES);
+		speedSelection.setName("speed");
+		speedSelection.addActionListener(this);
+		speedSelection.setBounds(170, 10, 110, 30);
+		speedSelection.setToolTipText("Speed of the simulation");
+		
 		// Action performed should be called
 		callActionPerformed = true;
 		
 		movementTimer = new Move();
-		startLearning = new LearningManager(this, currentMapNumber);
+		startLearning = new LearningManager(engine, this, currentMapNumber);
+		
+		// Shows the first generation at its starting positions
+		movementTimer.publish(engine);
 		
 		// Add the generations to the generation selection box
-		for (int i = 1; i <= startLearning.getLatestGenerationNumber(); i++) {
-			
-			addToList(GENERATION_LIST, Integer.toString(i));
-			
-		}
+		generationList.reset(startLearning.getLatestGenerationNumber(), startLearning.generationIsComplete());
 		
 		// Add the maps to the map selection box
 		for (int i = 1; i <= currentMapNumber; i++) {
@@ -204,6 +245,7 @@ public class GameManager implements ActionListener {
 		graphicsPane.add(generationSelection);
 		graphicsPane.add(helpButton);
 		graphicsPane.add(pauseButton);
+		graphicsPane.add(speedSelection);
 		graphicsPane.add(mapImageLabel);
 		graphicsPane.add(generationImageLabel);
 
@@ -227,38 +269,31 @@ public class GameManager implements ActionListener {
 	// Changes the map to the specified one
 	private void changeMap(int mapNumber) {
 
+		// The simulation is stopped before the engine it is running is replaced
+		movementTimer.pause();
+		
 		currentMapNumber = mapNumber;		
 		
 		// Creates the new map and gets its objects
-		currentMap = new Map(mapNumber, this);
-		gameObjects = currentMap.getObjects();
-		graphicsPane.updateObjects(gameObjects);
+		currentMap = new Map(mapNumber);
+		engine = new SimulationEngine(currentMap);
+		graphicsPane.updateObjects(engine.getStaticObjects());
 		
 		// Remove components
 		graphicsPane.removeAll();
 		
 		// Recreate the learning manager and the timer
-		startLearning = new LearningManager(this, currentMapNumber);
+		startLearning = new LearningManager(engine, this, currentMapNumber);
 		movementTimer.resetTimer();
-		movementTimer.pause();
-		
-		// Recreating and modifying the selection box
-		generationSelection = new JComboBox<String>();
-		generationSelection.setName("generation");
-		generationSelection.addActionListener(this);
-		generationSelection.setBounds(130, 50, 150, 30);
 		
-		// Add the values to the selection box
-		for (int i = 1; i <= startLearning.getLatestGenerationNumber(); i++) {
-			
-			addToList(GENERATION_LIST, Integer.toString(i));
-			
-		}
+		// Lists the new map's generations in the same selection box
+		callActionPerformed = false;
+		generationList.reset(startLearning.getLatestGenerationNumber(), startLearning.generationIsComplete());
+		callActionPerformed = true;
 		
 		// If the generation is complete set the selection default to the successful attempt.
 		if (startLearning.generationIsComplete()) {
 			
-			addToList(GENERATION_LIST, "Successful Character");
 			setSelectedItem(GENERATION_LIST, "Successful Character");
 			
 		// Otherwise replace with the latest generation
@@ -275,6 +310,7 @@ public class GameManager implements ActionListener {
 		graphicsPane.add(generationSelection);
 		graphicsPane.add(helpButton);
 		graphicsPane.add(pauseButton);
+		graphicsPane.add(speedSelection);
 		graphicsPane.add(mapImageLabel);
 		graphicsPane.add(generationImageLabel);
 		
@@ -296,22 +332,55 @@ public class GameManager implements ActionListener {
 			
 			// Set the final instance and adjust the selection box
 			startLearning.setFinalInstance(i);
-			addToList(GENERATION_LIST, "Successful Character");
-			setSelectedItem(GENERATION_LIST, "Successful Character");
+			showSuccessfulCharacter();
 			
 		}
 		
 	}
 	
-	// Adds an element to the list
-	public void addToList(int type, String addition) {
+	// Adds the successful character to the selection box and selects it
+	private void showSuccessfulCharacter() {
+		
+		addToList(GENERATION_LIST, "Successful Character");
+		setSelectedItem(GENERATION_LIST, "Successful Character");
+		
+	}
+	
+	// Adds an element to the list, on the event dispatch thread since the simulation thread also calls it
+	public void addToList(final int type, final String addition) {
+		
+		if (!SwingUtilities.isEventDispatchThread()) {
+			
+			SwingUtilities.invokeLater(new Runnable() {
+				
+				@Override
+				public void run() {
+					
+					addToList(type, addition);
+					
+				}
+				
+			});
+			
+			return;
+			
+		}
 		
 		// This method should not call action listener
 		callActionPerformed = false;
 		
+		// Generations are listed by number, so only the latest or the successful character is recorded
 		if (type == GENERATION_LIST) {
 			
-			generationSelection.addItem(addition);
+			if (addition.equals(GenerationListModel.SUCCESSFUL_CHARACTER)) {
+				
+				generationList.setSuccessful();
+				
+			} else {
+				
+				generationList.setLatestGenerationNumber(Integer.parseInt(addition));
+				
+			}
 			
 		} else if (type == MAP_LIST) {
 			
@@ -323,8 +392,25 @@ public class GameManager implements ActionListener {
 		
 	}
 	
-	// Selects the correct item in the drop down menu
-	public void setSelectedItem(int type, String item) {
+	// Selects the correct item in the drop down menu, on the event dispatch thread since the simulation thread also calls it
+	public void setSelectedItem(final int type, final String item) {
+		
+		if (!SwingUtilities.isEventDispatchThread()) {
+			
+			SwingUtilities.invokeLater(new Runnable() {
+				
+				@Override
+				public void run() {
+					
+					setSelectedItem(type, item);
+					
+				}
+				
+			});
+			
+			return;
+			
+		}
 		
 		// This method should not call action performed
 		callActionPerformed = false;
@@ -343,211 +429,321 @@ public class GameManager implements ActionListener {
 		
 	}
 
-	// Adds a new GameObject to the graphics window
-	public void addObject(GameObject r) {
-
-		gameObjects.add(r);
-
-		graphicsPane.repaint();
-
-	}
-
-	// Removes a game object from the graphics window
-	public void removeObject(GameObject r) {
-
-		GameObject remove = null;
-
-		for (GameObject g : gameObjects) {
-			// Loops to find the object
+	/*
+	 * Runs the engine on a thread of its own, at SPEED milliseconds a tick times the speed chosen. Faster
+	 * speeds run several ticks for each snapshot handed to the graphics panel, which draws the newest one
+	 * at its own frame rate, so the simulation never waits on the drawing. At the fastest speed whole
+	 * generations are evaluated at once, as the HeadlessTrainer does, and the best instance of every
+	 * SHOWN_GENERATION_INTERVAL generations is replayed on its own in real time while training goes on.
+	 * The panel and the selection boxes are only changed on the event dispatch thread.
+	 */
+	private class Move implements Runnable {
 
-			if (r.equals(g)) {
-				// Removes it if present
+		public static final double SPEED = SimulationEngine.TICK_LENGTH;
+		
+		// Ticks the simulation may fall behind before it stops trying to catch up, at real time
+		public static final int MAX_TICKS_BEHIND = 10;
+		
+		// Generations between the instances replayed at the fastest speed
+		public static final int SHOWN_GENERATION_INTERVAL = 10;
 
-				remove = g;
+		/*
+		 * The simulation thread, null while paused. Each simulation thread runs only while it is still
+		 * this one, so a thread that has been paused stops even if another has been started since.
+		 */
+		private volatile Thread simulationThread;
+		
+		// Set on the simulation threads, which are already running and never start another
+		private ThreadLocal<Boolean> onSimulationThread = new ThreadLocal<Boolean>();
+		
+		// Multiple of real time to run at, zero for as fast as possible
+		private volatile int speed = SPEEDS[0];
+		
+		// Evaluates whole generations at the fastest speed, and the engine it was made for
+		private ParallelEvaluator evaluator;
+		private SimulationEngine evaluatorEngine;
+		
+		// The instance being replayed at the fastest speed and the next one to replay
+		private SimulationEngine replayEngine;
+		private MovementSchedule replaySchedule;
+		private Instance nextReplay;
+		
+		// When the replay started and the ticks it has run
+		private long replayStart;
+		private long replayTicks;
 
+		/*
+		 * Starts the simulation thread if it is not running. Calls from a simulation thread, such as the
+		 * learning manager starting the timer after a generation, are ignored, so a thread being paused
+		 * cannot start a new one.
+		 */
+		public synchronized void begin() {
+			
+			if (simulationThread != null || onSimulationThread.get() != null) {
+				
+				return;
+				
 			}
-
+			
+			simulationThread = new Thread(this, "Simulation");
+			simulationThread.setDaemon(true);
+			simulationThread.start();
+			
 		}
-
-		gameObjects.remove(remove);
-
-		graphicsPane.repaint();
-
-	}
-
-	/*
-	 * This method checks the collision of a GameObject with respect to another, and
-	 * returns the type of collision according to the constants above.
-	 */
-	private int checkCollision(GameObject movingCollisionObject, GameObject collisionObject) {
-
-		int collision = NO_COLLISION;
-
-		if (collisionObject != null) {
+		
+		// Stops the simulation, waiting for the tick being run to finish
+		public void pause() {
 			
-			/*
-			 * Direction is determined based on the previous frame and its location relative to the floor
-			 * colliding with it
-			 */
-			if (collisionObject.doesCollide(movingCollisionObject) && collisionObject != movingCollisionObject) {
-
-				/*
-				 * If the object's right side's x coordinate collided but
-				 * the previous frame's right side did not, assume a collision from the right
-				 * side
-				 */
-				if (collisionObject.getIntX() <= movingCollisionObject.getIntX() + movingCollisionObject.getIntWidth()
-						&& collisionObject.getIntX() >= movingCollisionObject.getPreviousFrame().getIntX()
-								+ movingCollisionObject.getPreviousFrame().getWidth()) {
-
-					collision = RIGHT_COLLISION;
-
-					/*
-					 * If the objects's left side's x coordinate collides and the
-					 * previous frame's did not, assume a collision from the left side.
-					 */
-				} else if (collisionObject.getIntX() + collisionObject.getIntWidth() >= movingCollisionObject.getIntX()
-						&& collisionObject.getIntX() + collisionObject.getIntWidth() <= movingCollisionObject
-								.getPreviousFrame().getX()) {
-
-					collision = LEFT_COLLISION;
-
-					/*
-					 * If the objects's top side's y coordinate collides, and the
-					 * previous frame's did not, assume a collision from the top.
-					 */
-				} else if (collisionObject.getIntY() + collisionObject.getIntHeight() >= movingCollisionObject.getIntY()
-						&& collisionObject.getIntY() + collisionObject.getIntHeight() <= movingCollisionObject
-								.getPreviousFrame().getY()) {
-
-					collision = TOP_COLLISION;
-
-					/*
-					 * If the objects bottom side's y coordinate collides, but the previous frame's
-					 * y coordinate did not, then assume a collision from the bottom
-					 */
-				} else if (movingCollisionObject.getIntY() + movingCollisionObject.getIntHeight() >= collisionObject.getIntY()
-						&& movingCollisionObject.getPreviousFrame().getIntY() + movingCollisionObject.getPreviousFrame().getIntHeight() <= collisionObject.getIntY()
-						) {
-
-					collision = BOTTOM_COLLISION;
+			Thread stopping;
+			
+			synchronized (this) {
+				
+				stopping = simulationThread;
+				simulationThread = null;
+				
+			}
+			
+			if (stopping != null && stopping != Thread.currentThread()) {
+				
+				boolean interrupted = false;
+				
+				while (stopping.isAlive()) {
+					
+					try {
+						
+						stopping.join();
+						
+					} catch (InterruptedException e) {
+						
+						interrupted = true;
+						
+					}
 					
 				}
-
-			}
-
-		}
-
-		return collision;
-
-	}
-
-	/*
-	 * This sets the collision objects of the given GameObject.
-	 */
-	private void setCollisionObjects(GameObject c) {
-
-		for (GameObject o : gameObjects) {
-
-			// If colliding an object then add a collision object.
-			if (o.doesCollide(c) && o != c) {
-
-				c.collision(checkCollision(c, o), o);
-
+				
+				if (interrupted) {
+					
+					Thread.currentThread().interrupt();
+					
+				}
+				
 			}
-
-		}
-
-	}
-
-	/*
-	 * Timer class that moves every object every tick. SPEED variable within
-	 * determines the speed of the timer, as in how many milliseconds before its
-	 * next tick
-	 */
-	private class Move implements ActionListener {
-
-		public static final double SPEED = 13;
-		private int timePassed;
-
-		Timer innerTimer;
-
-		// Creates fall timer and begins gravity on character
-		public Move() {
-
-			innerTimer = new Timer((int) SPEED, this);
-			innerTimer.setInitialDelay(0);
-			timePassed = 0;
-
-		}
-		
-		// Starts the timer
-		public void begin() {
 			
-			innerTimer.start();
+			// A replay does not outlive the generations it came from
+			replayEngine = null;
+			nextReplay = null;
 			
 		}
 		
-		// Stops the timer
-		public void pause() {
+		// Sets the multiple of real time to run at, zero for as fast as possible
+		public void setSpeed(int speedSet) {
 			
-			innerTimer.stop();
+			speed = speedSet;
 			
 		}
 		
 		// Resets the timer
 		public void resetTimer() {
 			
-			timePassed = 0;
-			graphicsPane.setCountdownNumber((LearningManager.TIME_GIVEN - timePassed) / 1000);
-			graphicsPane.repaint();
+			engine.resetTime();
+			publish(engine);
+			
+		}
+		
+		// Copies the characters of an engine into a snapshot for the graphics panel
+		public void publish(SimulationEngine shown) {
+			
+			snapshots.getBack().capture(shown);
+			snapshots.publish();
 			
 		}
 
-		// Action Performed called every tick of the timer
+		// Runs ticks at the chosen speed until paused
 		@Override
-		public void actionPerformed(ActionEvent e) {
+		public void run() {
 			
-			// Adds to the time passed.
-			timePassed += SPEED;
+			long tickNanos = (long) (SPEED * 1000000);
 			
-			// Set the movement and scores of each instance every timer tick
-			startLearning.setMovements(timePassed);
-			startLearning.setAllScores();
+			// The speed being run at, and the time and ticks counted from when it was chosen
+			int runSpeed = -1;
+			long start = 0;
+			long ticksRun = 0;
 			
-			// Stops the timer if the full time has passed
-			if (timePassed > LearningManager.TIME_GIVEN) {
+			onSimulationThread.set(Boolean.TRUE);
+			
+			while (isRunning()) {
 				
-				timePassed = 0;
-				graphicsPane.setCountdownNumber((LearningManager.TIME_GIVEN - timePassed) / 1000);
-				startLearning.nextGeneration();
+				if (speed != runSpeed) {
+					
+					runSpeed = speed;
+					start = System.nanoTime();
+					ticksRun = 0;
+					
+					replayEngine = null;
+					nextReplay = null;
+					
+					publish(engine);
+					
+				}
+				
+				// Trains whole generations at the fastest speed until a character reaches the end
+				if (runSpeed == 0 && !startLearning.generationIsComplete()) {
+					
+					trainGeneration();
+					
+					continue;
+					
+				}
 				
+				// The successful character is shown in real time even at the fastest speed
+				int pace = Math.max(runSpeed, 1);
 				
-			} else {
+				// Runs the ticks that are due, skipping ahead if too far behind
+				long due = (System.nanoTime() - start) * pace / tickNanos;
 				
-				// Sets the countdown number
-				graphicsPane.setCountdownNumber((LearningManager.TIME_GIVEN - timePassed) / 1000);
-
-				for (int i = 0; i < gameObjects.size(); i++) {
-
-					// Moves the object
-					gameObjects.get(i).movement();
+				if (due - ticksRun > (long) MAX_TICKS_BEHIND * pace) {
+					
+					ticksRun = due - (long) MAX_TICKS_BEHIND * pace;
 					
-					// Clears existing collisions
-					gameObjects.get(i).clearCollisions();
+				}
+				
+				if (ticksRun < due) {
+					
+					while (ticksRun < due && isRunning() && speed == runSpeed) {
+						
+						tick();
+						ticksRun++;
+						
+					}
+					
+					// Hands the new positions to the graphics panel
+					publish(engine);
+					
+				}
+				
+				// Sleeps until the next tick is due
+				long wait = start + (ticksRun + 1) * tickNanos / pace - System.nanoTime();
+				
+				if (wait > 0) {
 					
-					// Sets the new collision objects
-					setCollisionObjects(gameObjects.get(i));
+					try {
+						
+						Thread.sleep(wait / 1000000, (int) (wait % 1000000));
+						
+					} catch (InterruptedException e) {
+						
+						return;
+						
+					}
+					
+				}
+				
+			}
+			
+		}
 
-					// Sets the velocity for the following movement
-					gameObjects.get(i).velocitySet();
+		// Returns whether this thread is the simulation thread and has not been paused
+		private boolean isRunning() {
+			
+			return simulationThread == Thread.currentThread();
+			
+		}
 
+		// Advances the engine by one tick
+		private void tick() {
+			
+			// Advances the engine by one tick
+			boolean generationOver = engine.tick(startLearning);
+			
+			// Stops the learning if a character reached the end
+			if (engine.getFinishingInstance() != null) {
+				
+				endReached(engine.getFinishingInstance());
+				
+			}
+			
+			// Creates the next generation if the full time has passed
+			if (generationOver) {
+				
+				startLearning.nextGeneration();
+				
+			}
+			
+		}
+		
+		// Evaluates the current generation at once and creates the next, then moves the replay on to now
+		private void trainGeneration() {
+			
+			// The evaluator is made again whenever the map changes
+			if (evaluatorEngine != engine) {
+				
+				evaluator = new ParallelEvaluator(new PopulationStepper(engine.getStaticObjects()));
+				evaluatorEngine = engine;
+				
+			}
+			
+			// A generation part way through is evaluated again from the start
+			engine.resetTime();
+			
+			startLearning.evaluateGeneration(evaluator);
+			
+			// Remembers the best of every few generations to replay
+			if (startLearning.getCurrentGenerationNumber() % SHOWN_GENERATION_INTERVAL == 0 || (replayEngine == null && nextReplay == null)) {
+				
+				nextReplay = startLearning.findTopPerforming().mutation(0);
+				
+			}
+			
+			if (startLearning.generationIsComplete()) {
+				
+				showSuccessfulCharacter();
+				
+			}
+			
+			startLearning.nextGeneration();
+			
+			stepReplay();
+			
+		}
+		
+		// Runs the replay up to real time, starting the next one once it is over
+		private void stepReplay() {
+			
+			if (replayEngine == null) {
+				
+				if (nextReplay == null) {
+					
+					return;
+					
 				}
 				
+				replayEngine = new SimulationEngine(currentMap);
+				replayEngine.addInstance(nextReplay);
+				replaySchedule = new MovementSchedule(new Instance[] {nextReplay});
+				replayStart = System.nanoTime();
+				replayTicks = 0;
+				
+				nextReplay = null;
+				
 			}
 			
-			// Repaint the screen
-			graphicsPane.repaint();
+			long due = (System.nanoTime() - replayStart) / (long) (SPEED * 1000000);
+			boolean replayOver = false;
+			
+			while (replayTicks < due && !replayOver) {
+				
+				replayOver = replayEngine.tick(replaySchedule);
+				replayTicks++;
+				
+			}
+			
+			publish(replayEngine);
+			
+			if (replayOver) {
+				
+				replayEngine = null;
+				
+			}
 			
 		}
 
@@ -572,8 +768,18 @@ public class GameManager implements ActionListener {
 			// Exception catching for parsing and casting
 			try {
 				
+				// Typing in the generation box only changes the generation once it selects one, so the typing itself shows the selection again
+				if (e.getSource() instanceof JComboBox && e.getActionCommand().equals("comboBoxEdited")) {
+					
+					generationSelection.getEditor().setItem(generationSelection.getSelectedItem());
+					
+				// Changing the speed does not stop the simulation
+				} else if (action.equals("speed")) {
+					
+					movementTimer.setSpeed(SPEEDS[speedSelection.getSelectedIndex()]);
+					
 				// If its one of the selection boxes
-				if (e.getSource() instanceof JComboBox) {
+				} else if (e.getSource() instanceof JComboBox) {
 					
 					startButton.setEnabled(true);
 					pauseButton.setEnabled(false);
@@ -583,6 +789,9 @@ public class GameManager implements ActionListener {
 						
 						String selection = (String) ((JComboBox<String>) e.getSource()).getSelectedItem();
 						
+						// The simulation is stopped before its generation is changed
+						movementTimer.pause();
+						
 						// Changes the generation to the specified input
 						if (selection.equals("Successful Character")) {
 							
@@ -595,7 +804,6 @@ public class GameManager implements ActionListener {
 						}
 						
 						movementTimer.resetTimer();
-						movementTimer.pause();
 						
 					// Map selection
 					} else if (action.equals("map")) {
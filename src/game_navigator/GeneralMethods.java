@@ -5,7 +5,7 @@
 	 * Programmer: Peter Alpajaro
 	 * Date Created: 6/13/2022
 	 * Description: Has static methods used by multiple classes in the project. Specifically file
-	 * writing and reading.
+	 * writing and reading, through TextRowReader and TextRowWriter.
 	 */
 
 
@@ -21,49 +21,56 @@ public class GeneralMethods {
 	public static final int GENERATION_DATA_TYPE = 1;
 	public static final int GENERAL_TYPE = 2;
 	public static final int STARTING_TYPE = 3;
+	public static final int SEED_TYPE = 4;
 	
 	// Reads the file and puts its contents into a 2d string array of its contents
 	public static String[][] readFile(String fileName) {
 		
 		String[][] file = null;
 		
+		FlightEvents.FileReadEvent event = null;
+		
+		if (FlightEvents.ENABLED) {
+			
+			event = new FlightEvents.FileReadEvent();
+			event.begin();
+			
+		}
+		
 		// Number parse error catch
 		try {
 			
 			// File reading error catch
 			try {
 				
-				// File readers
-				FileReader fileRead = new FileReader(fileName);
-				BufferedReader input = new BufferedReader(fileRead);
-				
-				// Number of objects
-				int lineNumber = Integer.parseInt(input.readLine());
-				// Number of attributes
-				int attributeNumber = Integer.parseInt(input.readLine());
-				
-				file = new String[lineNumber][attributeNumber];
-				
-				String line;
-				
-				for (int i = 0; i < file.length; i++) {
+				// File reader
+				try (TextRowReader input = new TextRowReader(fileName)) {
+					
+					// Number of objects
+					int lineNumber = input.nextInt();
+					input.nextRow();
+					
+					// Number of attributes
+					int attributeNumber = input.nextInt();
+					input.nextRow();
 					
-					// Get the next line and split it by spaces
-					line = input.readLine();
-					StringTokenizer lineSplit = new StringTokenizer(line);
+					file = new String[lineNumber][attributeNumber];
 					
-					// Loop through and fill the 2d array with the line's contents.
-					for (int j = 0; j < attributeNumber; j++) {
+					// Loop through the rows and fill the 2d array with each row's tokens
+					for (int i = 0; i < file.length; i++) {
 						
-						file[i][j] = lineSplit.nextToken().trim();
+						for (int j = 0; j < attributeNumber; j++) {
+							
+							file[i][j] = input.nextToken();
+							
+						}
+						
+						input.nextRow();
 						
 					}
 					
 				}
 				
-				// Close reader
-				input.close();
-				
 			// File is missing
 			} catch (IOException err) {
 				
@@ -92,13 +99,43 @@ public class GeneralMethods {
 			
 		}
 		
+		if (FlightEvents.ENABLED && event.shouldCommit()) {
+			
+			event.path = fileName;
+			event.bytes = new File(fileName).length();
+			event.commit();
+			
+		}
+		
 		return file;
 		
 	}
 
+	// Reads the two rows at the top of a grid file, returning the number of rows that follow
+	public static int readRowCount(TextRowReader input) throws IOException {
+		
+		int rowNumber = input.nextInt();
+		input.nextRow();
+		
+		// The number of attributes is known by whoever reads the rows
+		input.nextRow();
+		
+		return rowNumber;
+		
+	}
+
 	// Creates a new file and writes the contents of a 2d string array into it
 	public static void writeToFile(String[][] content, int type, int accessNumber, int mapNumber) {
 		
+		FlightEvents.FileWriteEvent event = null;
+		
+		if (FlightEvents.ENABLED) {
+			
+			event = new FlightEvents.FileWriteEvent();
+			event.begin();
+			
+		}
+		
 		try {
 			
 			String fileName = null;
@@ -131,6 +168,15 @@ public class GeneralMethods {
 				
 				fileName = "final_files/maps/map" + mapNumber + "/general_information.txt";
 				
+			} else if (type == SEED_TYPE) {
+				
+				fileName = "final_files/maps/map" + mapNumber + "/character_data/seed.txt";
+				
+				// Creates the generation folder if it has not been created yet.
+				new File("final_files/maps/map" + mapNumber + "/character_data").mkdirs();
+				
+				writeGrid = true;
+				
 			} else if (type == STARTING_TYPE) {
 				
 				fileName = "final_files/starting_document.txt";
@@ -142,60 +188,53 @@ public class GeneralMethods {
 				
 			}
 
-			// If data is to be written in a grid layout...
-			if (writeGrid) {
-				
-				// Create the file and file writer
-				FileWriter fileWriter = new FileWriter(fileName);
-				PrintWriter output = new PrintWriter(fileWriter);
-				
-				// Recording the length and width of the file for reading purposes
-				output.println(content.length);
-				output.println(content[0].length);
-				
-				String line = "";
+			// Create the file and file writer
+			try (TextRowWriter output = new TextRowWriter(fileName)) {
 				
-				// Loop through the content
-				for (int i = 0; i < content.length; i++) {
+				// If data is to be written in a grid layout...
+				if (writeGrid) {
 					
-					for (int j = 0; j < content[0].length; j++) {
+					// Recording the length and width of the file for reading purposes
+					output.putInt(content.length).endRow();
+					output.putInt(content[0].length).endRow();
+					
+					// Loop through the content, adding each value and a space after it
+					for (int i = 0; i < content.length; i++) {
+						
+						for (int j = 0; j < content[0].length; j++) {
+							
+							output.putString(content[i][j]).putSeparator();
+							
+						}
 						
-						// Add the content and a space in between
-						line += content[i][j] + " ";
+						output.endRow();
 						
 					}
 					
-					// Prints that string to the file
-					output.println(line);
+				} else {
 					
-					line = "";
+					// Print the generation number
+					output.putString(content[0][0]).endRow();
 					
-				}
-				
-				// Close writer
-				output.close();
-				
-			} else {
-				
-				// Create the file and file writer
-				FileWriter fileWriter = new FileWriter(fileName);
-				PrintWriter output = new PrintWriter(fileWriter);
-				
-				// Print the generation number
-				output.println(content[0][0]);
-				
-				// Print the completion representation
-				output.println(content[0][1]);
-				
-				// Print the final instance if the program is complete
-				if (content[0][1].equals("true")) {
+					// Print the completion representation
+					output.putString(content[0][1]).endRow();
 					
-					output.println(content[0][2]);
+					// Print the final instance if the program is complete
+					if (content[0][1].equals("true")) {
+						
+						output.putString(content[0][2]).endRow();
+						
+					}
 					
 				}
 				
-				// Close the writer
-				output.close();
+			}
+			
+			if (FlightEvents.ENABLED && event.shouldCommit()) {
+				
+				event.path = fileName;
+				event.bytes = new File(fileName).length();
+				event.commit();
 				
 			}
 			
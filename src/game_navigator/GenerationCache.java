@@ -0,0 +1,282 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  GenerationCache
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Keeps recently viewed generations of a map in memory, so going back and forth between
+	 * generations does not read the disk every time. Only the movements are kept and every request gets
+	 * new instances, since instances are moved around by the game. The least recently used generations
+	 * are forgotten once the movements kept go over a number of bytes. Whenever a generation is requested
+	 * the ones before and after it are read in the background, ready for the next step, on one thread
+	 * shared by every cache so a map that is left behind leaves no thread behind with it.
+	 */
+
+package game_navigator;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class GenerationCache {
+
+	// Number of bytes of movements kept when no budget is given, changed with -Dgame_navigator.generationCacheBytes
+	public static final long DEFAULT_BYTE_BUDGET = Long.getLong("game_navigator.generationCacheBytes", 32L * 1024 * 1024);
+
+	// Estimated bytes of one movement, its object and the reference to it
+	private static final int MOVEMENT_BYTES = 32;
+
+	// Estimated bytes of an array before its contents
+	private static final int ARRAY_BYTES = 16;
+
+	// Reads a generation that is not in the cache
+	public interface Loader {
+
+		// Returns the generation, or null if it does not exist
+		Instance[] load(int generationNumber);
+
+	}
+
+	// The thread every cache reads the generations around the one requested on
+	private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+		@Override
+		public Thread newThread(Runnable r) {
+
+			Thread thread = new Thread(r, "Generation prefetch");
+			thread.setDaemon(true);
+
+			return thread;
+
+		}
+
+	});
+
+	// Reads the generations that are not in memory
+	private Loader loader;
+
+	// The most bytes of movements kept and the bytes kept now
+	private long byteBudget;
+	private long bytesUsed;
+
+	// Movements of each kept generation, in order of use from least to most recent
+	private LinkedHashMap<Integer, Movement[][]> generations = new LinkedHashMap<Integer, Movement[][]>(16, 0.75f, true);
+
+	// Generations being read in the background
+	private HashSet<Integer> loading = new HashSet<Integer>();
+
+	// Number of requests found in memory and read from the disk
+	private long hits;
+	private long misses;
+
+	// Creates a cache with the default budget
+	public GenerationCache(Loader loaderSet) {
+
+		this(loaderSet, DEFAULT_BYTE_BUDGET);
+
+	}
+
+	// Creates a cache that keeps at most about the given number of bytes
+	public GenerationCache(Loader loaderSet, long byteBudgetSet) {
+
+		loader = loaderSet;
+		byteBudget = byteBudgetSet;
+
+	}
+
+	/*
+	 * Returns new instances of a generation, from memory if it is kept and otherwise from the loader.
+	 * The generations before and after it are then read in the background.
+	 */
+	public Instance[] get(int generationNumber) {
+
+		Movement[][] movements;
+
+		synchronized (this) {
+
+			movements = generations.get(generationNumber);
+
+			if (movements == null) {
+
+				misses++;
+
+			} else {
+
+				hits++;
+
+			}
+
+		}
+
+		if (movements == null) {
+
+			Instance[] generation = loader.load(generationNumber);
+
+			if (generation == null) {
+
+				return null;
+
+			}
+
+			put(generationNumber, generation);
+
+			movements = movementsOf(generation);
+
+		}
+
+		prefetch(generationNumber - 1);
+		prefetch(generationNumber + 1);
+
+		return toInstances(movements);
+
+	}
+
+	// Keeps the movements of a generation, forgetting the least recently used ones if over the budget
+	public synchronized void put(int generationNumber, Instance[] generation) {
+
+		Movement[][] movements = movementsOf(generation);
+		Movement[][] old = generations.put(generationNumber, movements);
+
+		if (old != null) {
+
+			bytesUsed -= sizeOf(old);
+
+		}
+
+		bytesUsed += sizeOf(movements);
+
+		Iterator<Movement[][]> leastRecent = generations.values().iterator();
+
+		// Keeps the generation just added even if it is over the budget alone
+		while (bytesUsed > byteBudget && generations.size() > 1) {
+
+			bytesUsed -= sizeOf(leastRecent.next());
+			leastRecent.remove();
+
+		}
+
+	}
+
+	// Returns the number of generations kept
+	public synchronized int size() {
+
+		return generations.size();
+
+	}
+
+	// Returns the estimated bytes kept
+	public synchronized long getBytesUsed() {
+
+		return this.bytesUsed;
+
+	}
+
+	// Returns the number of requests found in memory
+	public synchronized long getHits() {
+
+		return this.hits;
+
+	}
+
+	// Returns the number of requests read from the disk
+	public synchronized long getMisses() {
+
+		return this.misses;
+
+	}
+
+	// Reads a generation in the background if it is not kept or already being read
+	private void prefetch(final int generationNumber) {
+
+		if (generationNumber < 1) {
+
+			return;
+
+		}
+
+		synchronized (this) {
+
+			if (generations.containsKey(generationNumber) || !loading.add(generationNumber)) {
+
+				return;
+
+			}
+
+		}
+
+		PREFETCHER.execute(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+
+					Instance[] generation = loader.load(generationNumber);
+
+					if (generation != null) {
+
+						put(generationNumber, generation);
+
+					}
+
+				} finally {
+
+					synchronized (GenerationCache.this) {
+
+						loading.remove(generationNumber);
+
+					}
+
+				}
+
+			}
+
+		});
+
+	}
+
+	// Returns the movements of every instance of a generation
+	private static Movement[][] movementsOf(Instance[] generation) {
+
+		Movement[][] movements = new Movement[generation.length][];
+
+		for (int i = 0; i < generation.length; i++) {
+
+			movements[i] = generation[i].getMovements();
+
+		}
+
+		return movements;
+
+	}
+
+	// Returns new instances with the movements. Movements are never changed once made, so they are shared
+	private static Instance[] toInstances(Movement[][] movements) {
+
+		Instance[] generation = new Instance[movements.length];
+
+		for (int i = 0; i < generation.length; i++) {
+
+			generation[i] = new Instance(movements[i]);
+
+		}
+
+		return generation;
+
+	}
+
+	// Returns the estimated bytes taken by the movements of a generation
+	private static long sizeOf(Movement[][] movements) {
+
+		long size = ARRAY_BYTES + (long) movements.length * 8;
+
+		for (Movement[] m : movements) {
+
+			size += ARRAY_BYTES + (long) m.length * MOVEMENT_BYTES;
+
+		}
+
+		return size;
+
+	}
+
+}
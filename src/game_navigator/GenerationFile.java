@@ -0,0 +1,605 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  GenerationFile
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Reads and writes generations in a compact binary file instead of the text grid.
+	 * The file starts with a header of four identifying bytes, the version, the population size and the
+	 * number of movements per instance. A movement is stored as one varint holding its length in the
+	 * high bits and its jump, left and right flags in the low three bits. Every instance of a generation
+	 * is a mutation of the first, so only the first is stored in full and the others as the flags that
+	 * were flipped and the change in length of each movement. Files are read through a memory mapped buffer.
+	 * Generations saved as text before this format are still read, and can be converted with
+	 * Usage: GenerationFile [map number]
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+public class GenerationFile {
+
+	// The bytes every generation file starts with
+	public static final int MAGIC = 0x474E4746;
+
+	// The current version of the format. Version 1 stored every movement of every instance in full
+	public static final byte VERSION = 2;
+
+	// Every this many generations the first instance is stored in full instead of as a copy
+	public static final int KEYFRAME_INTERVAL = 64;
+
+	// Whether the first instance is stored in full or as a copy from the previous generation
+	private static final byte KEYFRAME = 0;
+	private static final byte DELTA = 1;
+
+	// Number of bits of each movement used by the flags
+	private static final int FLAG_BITS = 3;
+	private static final int FLAG_MASK = (1 << FLAG_BITS) - 1;
+
+	// Most bytes a varint can take
+	private static final int MAX_VARINT_BYTES = 10;
+
+	// Returns the name of the binary file of a generation
+	public static String fileName(int mapNumber, int generationNumber) {
+
+		return "final_files/maps/map" + mapNumber + "/character_data/generation" + generationNumber + ".gen";
+
+	}
+
+	// Returns the name of the text file a generation was saved in before the binary format
+	public static String textFileName(int mapNumber, int generationNumber) {
+
+		return "final_files/maps/map" + mapNumber + "/character_data/generation" + generationNumber + ".txt";
+
+	}
+
+	// Writes a generation to its binary file
+	public static void write(Instance[] generation, int mapNumber, int generationNumber) {
+
+		new File("final_files/maps/map" + mapNumber + "/character_data").mkdirs();
+
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName(mapNumber, generationNumber)),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			ByteBuffer buffer = encode(generation);
+
+			while (buffer.hasRemaining()) {
+
+				channel.write(buffer);
+
+			}
+
+		} catch (IOException e) {
+
+			System.out.println("Could not write generation " + generationNumber + " of map " + mapNumber + ".\nIn game_navigator/GenerationFile.");
+			e.printStackTrace();
+
+		}
+
+	}
+
+	/*
+	 * Reads a generation, from its binary file if there is one and otherwise from its old text file.
+	 * Returns null if neither can be read.
+	 */
+	public static Instance[] read(int mapNumber, int generationNumber) {
+
+		Path binary = Paths.get(fileName(mapNumber, generationNumber));
+
+		if (Files.exists(binary)) {
+
+			try (FileChannel channel = FileChannel.open(binary, StandardOpenOption.READ)) {
+
+				return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+			} catch (IOException | RuntimeException e) {
+
+				System.out.println("Could not read generation " + generationNumber + " of map " + mapNumber + ".\nIn game_navigator/GenerationFile.");
+				e.printStackTrace();
+
+			}
+
+		}
+
+		return readText(mapNumber, generationNumber);
+
+	}
+
+	// Reads a generation from its old text file, or returns null if it cannot be read
+	public static Instance[] readText(int mapNumber, int generationNumber) {
+
+		if (!new File(textFileName(mapNumber, generationNumber)).exists()) {
+
+			return null;
+
+		}
+
+		try (TextRowReader input = new TextRowReader(textFileName(mapNumber, generationNumber))) {
+
+			Instance[] generation = new Instance[GeneralMethods.readRowCount(input)];
+
+			for (int i = 0; i < generation.length; i++) {
+
+				generation[i] = new Instance(readTextMovements(input, LearningManager.MOVEMENT_NUMBER));
+				input.nextRow();
+
+			}
+
+			return generation;
+
+		} catch (IOException | RuntimeException e) {
+
+			System.out.println("Could not read generation " + generationNumber + " of map " + mapNumber + " from text.\nIn game_navigator/GenerationFile.");
+			e.printStackTrace();
+
+			return null;
+
+		}
+
+	}
+
+	// Reads movements written as text: jump, left, right and length for each
+	public static Movement[] readTextMovements(TextRowReader input, int movementNumber) throws IOException {
+
+		Movement[] movements = new Movement[movementNumber];
+
+		for (int j = 0; j < movementNumber; j++) {
+
+			boolean jump = input.nextBoolean();
+			boolean left = input.nextBoolean();
+			boolean right = input.nextBoolean();
+
+			movements[j] = new Movement(jump, left, right, input.nextInt());
+
+		}
+
+		return movements;
+
+	}
+
+	// Reads movements written as text from a row of tokens separated by spaces
+	public static Movement[] parseTextMovements(String row, int movementNumber) {
+
+		String[] tokens = row.trim().split(" +");
+		Movement[] movements = new Movement[movementNumber];
+
+		for (int j = 0; j < movementNumber; j++) {
+
+			movements[j] = new Movement(tokens[j * 4].equals("true"), tokens[j * 4 + 1].equals("true"), tokens[j * 4 + 2].equals("true"),
+					Integer.parseInt(tokens[j * 4 + 3]));
+
+		}
+
+		return movements;
+
+	}
+
+	// Returns a generation in the binary format as a keyframe, ready to be written
+	public static ByteBuffer encode(Instance[] generation) {
+
+		return encode(generation, null, 1);
+
+	}
+
+	/*
+	 * Returns a generation in the binary format, ready to be written. The first instance is the unaltered
+	 * copy of the best of the previous generation, so unless the generation is a keyframe it is stored
+	 * as which instance of the previous generation it copies. Every other instance is stored as the
+	 * changes mutation made to the first.
+	 */
+	public static ByteBuffer encode(Instance[] generation, Instance[] previous, int generationNumber) {
+
+		int movementNumber = generation.length == 0 ? 0 : generation[0].getMovements().length;
+
+		// Finds the instance of the previous generation the first instance copies
+		int parent = -1;
+
+		if (previous != null && generation.length > 0 && generationNumber % KEYFRAME_INTERVAL != 1) {
+
+			for (int i = 0; i < previous.length && parent == -1; i++) {
+
+				if (changedMovements(previous[i], generation[0]) == 0) {
+
+					parent = i;
+
+				}
+
+			}
+
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(6 + 3 * MAX_VARINT_BYTES + generation.length * (1 + movementNumber * 2) * MAX_VARINT_BYTES);
+
+		// Header
+		buffer.putInt(MAGIC);
+		buffer.put(VERSION);
+		putVarint(buffer, generation.length);
+		putVarint(buffer, movementNumber);
+
+		// The first instance, in full or as the instance it copies
+		if (parent == -1) {
+
+			buffer.put(KEYFRAME);
+
+			if (generation.length > 0) {
+
+				for (Movement movement : generation[0].getMovements()) {
+
+					putVarint(buffer, (zigZag(movement.getLength()) << FLAG_BITS) | flags(movement));
+
+				}
+
+			}
+
+		} else {
+
+			buffer.put(DELTA);
+			putVarint(buffer, parent);
+
+			putChanges(buffer, previous[parent], generation[0]);
+
+		}
+
+		// The changes of every other instance
+		for (int i = 1; i < generation.length; i++) {
+
+			putChanges(buffer, generation[0], generation[i]);
+
+		}
+
+		buffer.flip();
+
+		return buffer;
+
+	}
+
+	// Returns whether a generation in the binary format is stored as changes to the previous generation
+	public static boolean needsPrevious(ByteBuffer buffer) throws IOException {
+
+		ByteBuffer header = buffer.duplicate();
+
+		if (readVersion(header) == 1) {
+
+			return false;
+
+		}
+
+		getVarint(header);
+		getVarint(header);
+
+		return header.get() == DELTA;
+
+	}
+
+	// Returns the generation held in a buffer in the binary format, when it does not need the previous one
+	public static Instance[] decode(ByteBuffer buffer) throws IOException {
+
+		return decode(buffer, null);
+
+	}
+
+	// Returns the generation held in a buffer in the binary format, made from the previous one if needed
+	public static Instance[] decode(ByteBuffer buffer, Instance[] previous) throws IOException {
+
+		byte version = readVersion(buffer);
+
+		int population = (int) getVarint(buffer);
+		int movementNumber = (int) getVarint(buffer);
+
+		Instance[] generation = new Instance[population];
+
+		// Every movement of every instance in full
+		if (version == 1) {
+
+			for (int i = 0; i < population; i++) {
+
+				generation[i] = new Instance(getMovements(buffer, movementNumber));
+
+			}
+
+			return generation;
+
+		}
+
+		if (population == 0) {
+
+			return generation;
+
+		}
+
+		// The first instance
+		if (buffer.get() == KEYFRAME) {
+
+			generation[0] = new Instance(getMovements(buffer, movementNumber));
+
+		} else {
+
+			int parent = (int) getVarint(buffer);
+
+			if (previous == null || parent >= previous.length) {
+
+				throw new IOException("Generation needs the previous generation");
+
+			}
+
+			generation[0] = new Instance(getChanges(buffer, previous[parent].getMovements()));
+
+		}
+
+		// Every other instance
+		for (int i = 1; i < population; i++) {
+
+			generation[i] = new Instance(getChanges(buffer, generation[0].getMovements()));
+
+		}
+
+		return generation;
+
+	}
+
+	// Converts every generation of a map saved as text into the binary format
+	public static int convert(int mapNumber) {
+
+		int converted = 0;
+
+		for (int n = 1; new File(textFileName(mapNumber, n)).exists(); n++) {
+
+			if (!new File(fileName(mapNumber, n)).exists()) {
+
+				Instance[] generation = readText(mapNumber, n);
+
+				if (generation != null) {
+
+					write(generation, mapNumber, n);
+					converted++;
+
+				}
+
+			}
+
+		}
+
+		return converted;
+
+	}
+
+	public static void main(String[] args) {
+
+		try {
+
+			int mapNumber = Integer.parseInt(args[0]);
+
+			System.out.println("Converted " + convert(mapNumber) + " generations of map " + mapNumber);
+
+		} catch (NumberFormatException | ArrayIndexOutOfBoundsException err) {
+
+			System.out.println("Usage: GenerationFile [map number]\nIn game_navigator/GenerationFile.");
+
+		}
+
+	}
+
+	// Reads the header up to the version, returning the version
+	private static byte readVersion(ByteBuffer buffer) throws IOException {
+
+		if (buffer.remaining() < 5 || buffer.getInt() != MAGIC) {
+
+			throw new IOException("Not a generation file");
+
+		}
+
+		byte version = buffer.get();
+
+		if (version != 1 && version != VERSION) {
+
+			throw new IOException("Unknown generation file version " + version);
+
+		}
+
+		return version;
+
+	}
+
+	// Reads movements stored in full
+	private static Movement[] getMovements(ByteBuffer buffer, int movementNumber) throws IOException {
+
+		Movement[] movements = new Movement[movementNumber];
+
+		for (int j = 0; j < movementNumber; j++) {
+
+			long value = getVarint(buffer);
+
+			movements[j] = toMovement((int) (value & FLAG_MASK), unZigZag(value >>> FLAG_BITS));
+
+		}
+
+		return movements;
+
+	}
+
+	// Returns the number of movements of an instance that differ from those of another
+	private static int changedMovements(Instance reference, Instance instance) {
+
+		Movement[] from = reference.getMovements();
+		Movement[] to = instance.getMovements();
+
+		if (from.length != to.length) {
+
+			return Integer.MAX_VALUE;
+
+		}
+
+		int changed = 0;
+
+		for (int j = 0; j < to.length; j++) {
+
+			if (from[j].getLength() != to[j].getLength() || flags(from[j]) != flags(to[j])) {
+
+				changed++;
+
+			}
+
+		}
+
+		return changed;
+
+	}
+
+	/*
+	 * Writes the changes from the movements of one instance to another. Each change is the flags that
+	 * were flipped and the difference in length, packed like a movement. When most movements changed
+	 * every change is written, otherwise only the changed movements are, each after the number of
+	 * unchanged movements before it.
+	 */
+	private static void putChanges(ByteBuffer buffer, Instance reference, Instance instance) {
+
+		Movement[] from = reference.getMovements();
+		Movement[] to = instance.getMovements();
+
+		int changed = changedMovements(reference, instance);
+		boolean dense = changed * 2 > to.length;
+
+		putVarint(buffer, ((long) changed << 1) | (dense ? 1 : 0));
+
+		int lastChanged = -1;
+
+		for (int j = 0; j < to.length; j++) {
+
+			long change = (zigZag(to[j].getLength() - from[j].getLength()) << FLAG_BITS) | (flags(from[j]) ^ flags(to[j]));
+
+			if (dense) {
+
+				putVarint(buffer, change);
+
+			} else if (change != 0) {
+
+				putVarint(buffer, j - lastChanged - 1);
+				putVarint(buffer, change);
+
+				lastChanged = j;
+
+			}
+
+		}
+
+	}
+
+	// Reads the changes written by putChanges and returns the changed movements
+	private static Movement[] getChanges(ByteBuffer buffer, Movement[] from) throws IOException {
+
+		Movement[] to = from.clone();
+
+		long count = getVarint(buffer);
+		int changed = (int) (count >>> 1);
+
+		if ((count & 1) != 0) {
+
+			for (int j = 0; j < to.length; j++) {
+
+				to[j] = applyChange(from[j], getVarint(buffer));
+
+			}
+
+		} else {
+
+			int j = -1;
+
+			for (int c = 0; c < changed; c++) {
+
+				j += (int) getVarint(buffer) + 1;
+
+				to[j] = applyChange(from[j], getVarint(buffer));
+
+			}
+
+		}
+
+		return to;
+
+	}
+
+	// Returns a movement with a change written by putChanges applied
+	private static Movement applyChange(Movement from, long change) {
+
+		if (change == 0) {
+
+			return from;
+
+		}
+
+		return toMovement(flags(from) ^ (int) (change & FLAG_MASK), from.getLength() + unZigZag(change >>> FLAG_BITS));
+
+	}
+
+	// Returns a movement with the flags and length
+	private static Movement toMovement(int flags, int length) {
+
+		return new Movement((flags & PopulationStore.MOVES_JUMP) != 0, (flags & PopulationStore.MOVES_LEFT) != 0,
+				(flags & PopulationStore.MOVES_RIGHT) != 0, length);
+
+	}
+
+	// Returns the jump, left and right flags of a movement as bits
+	private static int flags(Movement movement) {
+
+		return (movement.doesJump() ? PopulationStore.MOVES_JUMP : 0) | (movement.movesLeft() ? PopulationStore.MOVES_LEFT : 0)
+				| (movement.movesRight() ? PopulationStore.MOVES_RIGHT : 0);
+
+	}
+
+	// Maps a signed length to an unsigned number, keeping small negative lengths small
+	private static long zigZag(int value) {
+
+		return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+
+	}
+
+	// Reverses zigZag
+	private static int unZigZag(long value) {
+
+		return (int) (value >>> 1) ^ -(int) (value & 1);
+
+	}
+
+	// Writes a number seven bits at a time, with the high bit set on every byte but the last
+	private static void putVarint(ByteBuffer buffer, long value) {
+
+		while ((value & ~0x7FL) != 0) {
+
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+
+		}
+
+		buffer.put((byte) value);
+
+	}
+
+	// Reads a number written by putVarint
+	private static long getVarint(ByteBuffer buffer) throws IOException {
+
+		long value = 0;
+
+		for (int shift = 0; shift < 64; shift += 7) {
+
+			byte b = buffer.get();
+
+			value |= (long) (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+
+				return value;
+
+			}
+
+		}
+
+		throw new IOException("Varint too long");
+
+	}
+
+}
@@ -0,0 +1,161 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  GenerationListModel
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: The items of the generation selection box, worked out when they are asked for instead
+	 * of stored. The list is only the latest generation number and whether there is a successful
+	 * character, so adding a generation or switching maps takes the same time however long the map has
+	 * trained. A generation number typed into the box is selected if it exists.
+	 */
+
+package game_navigator;
+
+import javax.swing.*;
+
+public class GenerationListModel extends AbstractListModel<String> implements ComboBoxModel<String> {
+
+	private static final long serialVersionUID = 1L;
+
+	// The item shown after the generations once a character has reached the end
+	public static final String SUCCESSFUL_CHARACTER = "Successful Character";
+
+	// Number of generations listed and whether the successful character follows them
+	private int latestGenerationNumber;
+	private boolean successful;
+
+	// The item selected
+	private String selectedItem;
+
+	// Lists the generations up to the latest, then the successful character if there is one
+	public void reset(int latestGenerationNumberSet, boolean successfulSet) {
+
+		int oldSize = getSize();
+
+		latestGenerationNumber = latestGenerationNumberSet;
+		successful = successfulSet;
+		selectedItem = null;
+
+		if (oldSize > 0) {
+
+			fireIntervalRemoved(this, 0, oldSize - 1);
+
+		}
+
+		if (getSize() > 0) {
+
+			fireIntervalAdded(this, 0, getSize() - 1);
+
+		}
+
+	}
+
+	// Adds the generations up to the one given, if not already listed
+	public void setLatestGenerationNumber(int generationNumber) {
+
+		if (generationNumber > latestGenerationNumber) {
+
+			int first = latestGenerationNumber;
+
+			latestGenerationNumber = generationNumber;
+
+			fireIntervalAdded(this, first, generationNumber - 1);
+
+		}
+
+	}
+
+	// Adds the successful character after the generations
+	public void setSuccessful() {
+
+		if (!successful) {
+
+			successful = true;
+
+			fireIntervalAdded(this, latestGenerationNumber, latestGenerationNumber);
+
+		}
+
+	}
+
+	@Override
+	public int getSize() {
+
+		return latestGenerationNumber + (successful ? 1 : 0);
+
+	}
+
+	@Override
+	public String getElementAt(int index) {
+
+		if (index < latestGenerationNumber) {
+
+			return Integer.toString(index + 1);
+
+		}
+
+		return SUCCESSFUL_CHARACTER;
+
+	}
+
+	/*
+	 * Selects an item of the list. Typed generation numbers are accepted if they are listed and ignored
+	 * otherwise, leaving the last selection.
+	 */
+	@Override
+	public void setSelectedItem(Object item) {
+
+		String selection = item == null ? null : item.toString().trim();
+
+		if (selection != null && !selection.equals(SUCCESSFUL_CHARACTER)) {
+
+			try {
+
+				int generationNumber = Integer.parseInt(selection);
+
+				selection = generationNumber >= 1 && generationNumber <= latestGenerationNumber ? Integer.toString(generationNumber) : null;
+
+			} catch (NumberFormatException e) {
+
+				selection = null;
+
+			}
+
+		} else if (selection != null && !successful) {
+
+			selection = null;
+
+		}
+
+		if (selection != null && !selection.equals(selectedItem)) {
+
+			selectedItem = selection;
+
+			fireContentsChanged(this, -1, -1);
+
+		}
+
+	}
+
+	@Override
+	public Object getSelectedItem() {
+
+		return this.selectedItem;
+
+	}
+
+	// Returns the position of the selected item, worked out from its number instead of searching the list
+	public int getSelectedIndex() {
+
+		if (selectedItem == null) {
+
+			return -1;
+
+		}
+
+		return selectedItem.equals(SUCCESSFUL_CHARACTER) ? latestGenerationNumber : Integer.parseInt(selectedItem) - 1;
+
+	}
+
+}
@@ -0,0 +1,576 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  GenerationLog
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Keeps every generation of a map in a few large files instead of one file per
+	 * generation. Generations are appended to the end of a segment file as records of the generation
+	 * number, the length and the generation in the GenerationFile format. Each segment has an index file
+	 * with the position of every record in it, so any record is found with a single seek. A generation
+	 * stored as changes is read by following the index back to the last whole generation, at most
+	 * GenerationFile.KEYFRAME_INTERVAL records, reading them without opening the segment again and then
+	 * applying the changes in order. Once a segment is full the next generation starts a new one, named
+	 * after the first generation it holds.
+	 * The log can be read while another thread appends to it. The program keeps one log open for each
+	 * map, so every reader and the writer agree on what is in it.
+	 * Generations saved in their own files before the log can be imported with
+	 * Usage: GenerationLog [map number]
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+public class GenerationLog {
+
+	// Size after which a segment is no longer appended to
+	public static final long SEGMENT_SIZE = 8 * 1024 * 1024;
+
+	// Bytes before every record: the generation number and the length of the generation
+	private static final int RECORD_HEADER = 8;
+
+	// Bytes of every index entry: the generation number and the position of its record
+	private static final int INDEX_ENTRY = 12;
+
+	// The log of each map opened by the program, by map number
+	private static HashMap<Integer, GenerationLog> shared = new HashMap<Integer, GenerationLog>();
+
+	// Folder that holds the segments
+	private File folder;
+
+	// Map whose generations saved in their own files can be used by the log, or -1 if not known
+	private int mapNumber = -1;
+
+	// First generation of every segment, in order
+	private ArrayList<Integer> segmentStarts = new ArrayList<Integer>();
+
+	// Size of the last segment
+	private long lastSegmentSize;
+
+	// Segment and position of every generation, by generation number. -1 if it is not in the log
+	private int[] generationSegment = new int[0];
+	private long[] generationPosition = new long[0];
+
+	// Opens the log of a map, finding every generation already in it
+	public GenerationLog(int mapNumberSet) {
+
+		this(new File("final_files/maps/map" + mapNumberSet + "/character_data/log"));
+
+		mapNumber = mapNumberSet;
+
+	}
+
+	// Returns the log of a map shared by the whole program, opening it the first time
+	public static synchronized GenerationLog getShared(int mapNumber) {
+
+		GenerationLog log = shared.get(mapNumber);
+
+		if (log == null) {
+
+			log = new GenerationLog(mapNumber);
+			shared.put(mapNumber, log);
+
+		}
+
+		return log;
+
+	}
+
+	// Opens the log held in a folder
+	public GenerationLog(File folderSet) {
+
+		folder = folderSet;
+
+		String[] names = folder.list();
+
+		if (names == null) {
+
+			return;
+
+		}
+
+		// Finds the segments and puts them in order
+		for (String name : names) {
+
+			if (name.startsWith("segment") && name.endsWith(".log")) {
+
+				try {
+
+					segmentStarts.add(Integer.parseInt(name.substring("segment".length(), name.length() - ".log".length())));
+
+				} catch (NumberFormatException e) {
+
+					System.out.println("Unknown file " + name + " in the generation log.\nIn game_navigator/GenerationLog.");
+
+				}
+
+			}
+
+		}
+
+		Collections.sort(segmentStarts);
+
+		for (int s = 0; s < segmentStarts.size(); s++) {
+
+			try {
+
+				lastSegmentSize = loadSegment(s);
+
+			} catch (IOException e) {
+
+				System.out.println("Could not read segment " + segmentStarts.get(s) + " of the generation log.\nIn game_navigator/GenerationLog.");
+				e.printStackTrace();
+
+			}
+
+		}
+
+	}
+
+	// Returns whether a generation is in the log
+	public synchronized boolean contains(int generationNumber) {
+
+		return generationNumber >= 0 && generationNumber < generationSegment.length && generationSegment[generationNumber] != -1;
+
+	}
+
+	// Returns the highest generation in the log, 0 if it is empty
+	public synchronized int getLatestGenerationNumber() {
+
+		for (int n = generationSegment.length - 1; n > 0; n--) {
+
+			if (generationSegment[n] != -1) {
+
+				return n;
+
+			}
+
+		}
+
+		return 0;
+
+	}
+
+	// Returns the number of segments
+	public synchronized int getSegmentNumber() {
+
+		return segmentStarts.size();
+
+	}
+
+	// Reads a generation, or returns null if it is not in the log
+	public synchronized Instance[] read(int generationNumber) {
+
+		if (!contains(generationNumber)) {
+
+			return null;
+
+		}
+
+		// The generation and the ones it is stored as changes to, newest first, back to a whole generation
+		ArrayList<ByteBuffer> chain = new ArrayList<ByteBuffer>();
+		int oldest = generationNumber;
+
+		FileChannel channel = null;
+		int channelSegment = -1;
+
+		try {
+
+			try {
+
+				while (true) {
+
+					// A segment is only opened when the chain moves into it
+					if (generationSegment[oldest] != channelSegment) {
+
+						if (channel != null) {
+
+							channel.close();
+
+						}
+
+						channelSegment = generationSegment[oldest];
+						channel = FileChannel.open(segmentFile(channelSegment, ".log").toPath(), StandardOpenOption.READ);
+
+					}
+
+					ByteBuffer payload = readRecord(channel, oldest);
+					chain.add(payload);
+
+					if (!GenerationFile.needsPrevious(payload) || !contains(oldest - 1)) {
+
+						break;
+
+					}
+
+					oldest--;
+
+				}
+
+			} finally {
+
+				if (channel != null) {
+
+					channel.close();
+
+				}
+
+			}
+
+			Instance[] generation = null;
+
+			// The oldest may be changes to a generation only in its own file, saved before the log
+			if (GenerationFile.needsPrevious(chain.get(chain.size() - 1)) && mapNumber != -1) {
+
+				generation = GenerationFile.read(mapNumber, oldest - 1);
+
+			}
+
+			// Applies the changes from the oldest to the generation asked for
+			for (int c = chain.size() - 1; c >= 0; c--) {
+
+				generation = GenerationFile.decode(chain.get(c), generation);
+
+			}
+
+			return generation;
+
+		} catch (IOException | RuntimeException e) {
+
+			System.out.println("Could not read generation " + generationNumber + " from the generation log.\nIn game_navigator/GenerationLog.");
+			e.printStackTrace();
+
+			return null;
+
+		}
+
+	}
+
+	/*
+	 * Adds a generation to the end of the last segment, or of a new one if the last is full. A
+	 * generation appended again replaces the earlier copy.
+	 */
+	public void append(int generationNumber, Instance[] generation) {
+
+		append(new int[] {generationNumber}, new ByteBuffer[] {GenerationFile.encode(generation)});
+
+	}
+
+	/*
+	 * Adds generations already in the GenerationFile format, in order. The generations that go in the
+	 * same segment are added with one write to the segment and one to its index.
+	 */
+	public synchronized void append(int[] generationNumbers, ByteBuffer[] payloads) {
+
+		folder.mkdirs();
+
+		int first = 0;
+
+		while (first < generationNumbers.length) {
+
+			// Rolls over to a new segment, which never has the same name as an earlier one
+			if (segmentStarts.isEmpty() || lastSegmentSize >= SEGMENT_SIZE) {
+
+				if (segmentStarts.isEmpty()) {
+
+					segmentStarts.add(generationNumbers[first]);
+
+				} else {
+
+					segmentStarts.add(Math.max(generationNumbers[first], segmentStarts.get(segmentStarts.size() - 1) + 1));
+
+				}
+
+				lastSegmentSize = 0;
+
+			}
+
+			int segment = segmentStarts.size() - 1;
+
+			// Takes generations until the segment is full
+			int last = first;
+			long size = lastSegmentSize + RECORD_HEADER + payloads[first].remaining();
+
+			while (last + 1 < generationNumbers.length && size < SEGMENT_SIZE) {
+
+				last++;
+				size += RECORD_HEADER + payloads[last].remaining();
+
+			}
+
+			ByteBuffer records = ByteBuffer.allocate((int) (size - lastSegmentSize));
+			ByteBuffer entries = ByteBuffer.allocate((last - first + 1) * INDEX_ENTRY);
+			long[] positions = new long[last - first + 1];
+
+			for (int g = first; g <= last; g++) {
+
+				positions[g - first] = lastSegmentSize + records.position();
+
+				entries.putInt(generationNumbers[g]);
+				entries.putLong(positions[g - first]);
+
+				records.putInt(generationNumbers[g]);
+				records.putInt(payloads[g].remaining());
+				records.put(payloads[g].duplicate());
+
+			}
+
+			records.flip();
+			entries.flip();
+
+			try {
+
+				writeFully(segmentFile(segment, ".log"), records);
+				writeFully(segmentFile(segment, ".idx"), entries);
+
+				for (int g = first; g <= last; g++) {
+
+					setLocation(generationNumbers[g], segment, positions[g - first]);
+
+				}
+
+				lastSegmentSize = size;
+
+			} catch (IOException e) {
+
+				System.out.println("Could not append generations " + generationNumbers[first] + " to " + generationNumbers[last] + " to the generation log.\nIn game_navigator/GenerationLog.");
+				e.printStackTrace();
+
+				return;
+
+			}
+
+			first = last + 1;
+
+		}
+
+	}
+
+	/*
+	 * Appends every generation of a map saved in its own file, from the first until one is missing.
+	 * Returns the number of generations imported.
+	 */
+	public int importFiles(int mapNumber) {
+
+		int imported = 0;
+
+		int start = getLatestGenerationNumber() + 1;
+		Instance[] previous = read(start - 1);
+
+		for (int n = start; ; n++) {
+
+			if (!new File(GenerationFile.fileName(mapNumber, n)).exists() && !new File(GenerationFile.textFileName(mapNumber, n)).exists()) {
+
+				break;
+
+			}
+
+			Instance[] generation = GenerationFile.read(mapNumber, n);
+
+			if (generation == null) {
+
+				break;
+
+			}
+
+			append(new int[] {n}, new ByteBuffer[] {GenerationFile.encode(generation, previous, n)});
+			imported++;
+
+			previous = generation;
+
+		}
+
+		return imported;
+
+	}
+
+	public static void main(String[] args) {
+
+		try {
+
+			int mapNumber = Integer.parseInt(args[0]);
+
+			System.out.println("Imported " + new GenerationLog(mapNumber).importFiles(mapNumber) + " generations of map " + mapNumber);
+
+		} catch (NumberFormatException | ArrayIndexOutOfBoundsException err) {
+
+			System.out.println("Usage: GenerationLog [map number]\nIn game_navigator/GenerationLog.");
+
+		}
+
+	}
+
+	/*
+	 * Finds the generations of a segment from its index, then checks the segment for records written
+	 * after the index was last updated. A record cut off part way through is removed. Returns the size
+	 * of the segment.
+	 */
+	private long loadSegment(int segment) throws IOException {
+
+		File log = segmentFile(segment, ".log");
+		File index = segmentFile(segment, ".idx");
+
+		long end = 0;
+
+		try (FileChannel logChannel = FileChannel.open(log.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+				FileChannel indexChannel = FileChannel.open(index.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+			long logSize = logChannel.size();
+
+			// Reads every complete index entry
+			long entries = indexChannel.size() / INDEX_ENTRY;
+			ByteBuffer indexData = readFully(indexChannel, 0, (int) (entries * INDEX_ENTRY));
+
+			for (long e = 0; e < entries; e++) {
+
+				int generationNumber = indexData.getInt();
+				long position = indexData.getLong();
+
+				if (position + RECORD_HEADER > logSize) {
+
+					entries = e;
+					break;
+
+				}
+
+				int length = readFully(logChannel, position + 4, 4).getInt();
+
+				if (position + RECORD_HEADER + length > logSize) {
+
+					entries = e;
+					break;
+
+				}
+
+				setLocation(generationNumber, segment, position);
+				end = Math.max(end, position + RECORD_HEADER + length);
+
+			}
+
+			indexChannel.truncate(entries * INDEX_ENTRY);
+
+			// Adds the records the index is missing
+			while (end + RECORD_HEADER <= logSize) {
+
+				ByteBuffer header = readFully(logChannel, end, RECORD_HEADER);
+				int generationNumber = header.getInt();
+				int length = header.getInt();
+
+				if (length < 0 || end + RECORD_HEADER + length > logSize) {
+
+					break;
+
+				}
+
+				ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY);
+				entry.putInt(generationNumber);
+				entry.putLong(end);
+				entry.flip();
+
+				indexChannel.position(indexChannel.size());
+
+				while (entry.hasRemaining()) {
+
+					indexChannel.write(entry);
+
+				}
+
+				setLocation(generationNumber, segment, end);
+				end += RECORD_HEADER + length;
+
+			}
+
+			logChannel.truncate(end);
+
+		}
+
+		return end;
+
+	}
+
+	// Reads the generation held in the record of a generation from its segment
+	private ByteBuffer readRecord(FileChannel channel, int generationNumber) throws IOException {
+
+		long position = generationPosition[generationNumber];
+
+		ByteBuffer header = readFully(channel, position, RECORD_HEADER);
+
+		if (header.getInt() != generationNumber) {
+
+			throw new IOException("Index does not match the segment");
+
+		}
+
+		return readFully(channel, position + RECORD_HEADER, header.getInt());
+
+	}
+
+	// Records where a generation is, growing the tables if needed
+	private void setLocation(int generationNumber, int segment, long position) {
+
+		if (generationNumber >= generationSegment.length) {
+
+			int oldLength = generationSegment.length;
+			int newLength = Math.max(generationNumber + 1, oldLength * 2);
+
+			generationSegment = Arrays.copyOf(generationSegment, newLength);
+			generationPosition = Arrays.copyOf(generationPosition, newLength);
+
+			Arrays.fill(generationSegment, oldLength, newLength, -1);
+
+		}
+
+		generationSegment[generationNumber] = segment;
+		generationPosition[generationNumber] = position;
+
+	}
+
+	// Returns a file of a segment
+	private File segmentFile(int segment, String extension) {
+
+		return new File(folder, "segment" + segmentStarts.get(segment) + extension);
+
+	}
+
+	// Appends the buffer to the end of a file in one write
+	private static void writeFully(File file, ByteBuffer buffer) throws IOException {
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+
+			while (buffer.hasRemaining()) {
+
+				channel.write(buffer);
+
+			}
+
+		}
+
+	}
+
+	// Reads a number of bytes from a position of a file
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+
+		while (buffer.hasRemaining()) {
+
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+
+				throw new EOFException();
+
+			}
+
+		}
+
+		buffer.flip();
+
+		return buffer;
+
+	}
+
+}
@@ -0,0 +1,422 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  GenerationTelemetry
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Statistics of one scored generation: the best, mean, median and standard deviation of
+	 * the scores, how many characters were alive at the end, whether one reached the finish, how long the
+	 * generation took and how many instances were simulated. The mean and standard deviation come from a
+	 * single pass over the scores and the median from selecting it in place, so no sort is needed.
+	 * Every map has a telemetry file of fixed size records appended after each generation, which shows
+	 * how training converges and how fast it runs without reading the generations again. A record cut
+	 * off by a crash is removed before the next one is appended.
+	 * The file of a map is printed as tab separated rows by:
+	 * Usage: GenerationTelemetry [map number]
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+public class GenerationTelemetry {
+
+	// The bytes every telemetry file starts with
+	public static final int MAGIC = 0x474E544C;
+
+	// The current version of the format
+	public static final byte VERSION = 1;
+
+	// Bytes before the first record
+	public static final int HEADER_SIZE = 5;
+
+	// Bytes of every record
+	public static final int RECORD_SIZE = 4 * 3 + 8 * 3 + 4 + 1 + 8 + 4;
+
+	// The columns of the printed rows
+	public static final String HEADER = "generation\tpopulation\tbest\tmean\tmedian\tstddev\talive_at_end\tfinish_reached\twall_ms\tevaluations\tevaluations_per_second";
+
+	private int generationNumber;
+	private int population;
+	private int bestScore;
+	private double meanScore;
+	private double medianScore;
+	private double standardDeviation;
+	private int aliveAtEnd;
+	private boolean finishReached;
+	private long wallNanos;
+	private int evaluations;
+
+	// Works out the statistics of a generation from its scores
+	public GenerationTelemetry(int generationNumberSet, int[] scores, int aliveAtEndSet, boolean finishReachedSet, long wallNanosSet, int evaluationsSet) {
+
+		generationNumber = generationNumberSet;
+		population = scores.length;
+		aliveAtEnd = aliveAtEndSet;
+		finishReached = finishReachedSet;
+		wallNanos = wallNanosSet;
+		evaluations = evaluationsSet;
+
+		// The best, the mean and the sum of squared differences from it in one pass (Welford's method)
+		double mean = 0;
+		double squares = 0;
+
+		bestScore = scores.length == 0 ? 0 : scores[0];
+
+		for (int i = 0; i < scores.length; i++) {
+
+			bestScore = Math.max(bestScore, scores[i]);
+
+			double difference = scores[i] - mean;
+			mean += difference / (i + 1);
+			squares += difference * (scores[i] - mean);
+
+		}
+
+		meanScore = mean;
+		standardDeviation = scores.length == 0 ? 0 : Math.sqrt(squares / scores.length);
+		medianScore = median(scores);
+
+	}
+
+	// Creates the telemetry read from a record
+	private GenerationTelemetry(ByteBuffer record) {
+
+		generationNumber = record.getInt();
+		population = record.getInt();
+		bestScore = record.getInt();
+		meanScore = record.getDouble();
+		medianScore = record.getDouble();
+		standardDeviation = record.getDouble();
+		aliveAtEnd = record.getInt();
+		finishReached = record.get() != 0;
+		wallNanos = record.getLong();
+		evaluations = record.getInt();
+
+	}
+
+	// Returns the name of the telemetry file of a map
+	public static String fileName(int mapNumber) {
+
+		return "final_files/maps/map" + mapNumber + "/character_data/telemetry.bin";
+
+	}
+
+	public int getGenerationNumber() {
+
+		return this.generationNumber;
+
+	}
+
+	public int getPopulation() {
+
+		return this.population;
+
+	}
+
+	public int getBestScore() {
+
+		return this.bestScore;
+
+	}
+
+	public double getMeanScore() {
+
+		return this.meanScore;
+
+	}
+
+	public double getMedianScore() {
+
+		return this.medianScore;
+
+	}
+
+	public double getStandardDeviation() {
+
+		return this.standardDeviation;
+
+	}
+
+	// Returns the characters still alive when the generation ended
+	public int getAliveAtEnd() {
+
+		return this.aliveAtEnd;
+
+	}
+
+	public boolean isFinishReached() {
+
+		return this.finishReached;
+
+	}
+
+	public long getWallNanos() {
+
+		return this.wallNanos;
+
+	}
+
+	public int getEvaluations() {
+
+		return this.evaluations;
+
+	}
+
+	// Returns the instances simulated each second of the generation
+	public double getEvaluationsPerSecond() {
+
+		return wallNanos == 0 ? 0 : evaluations * 1e9 / wallNanos;
+
+	}
+
+	// Returns the record in its binary format, ready to be appended
+	public ByteBuffer encode() {
+
+		ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+
+		buffer.putInt(generationNumber);
+		buffer.putInt(population);
+		buffer.putInt(bestScore);
+		buffer.putDouble(meanScore);
+		buffer.putDouble(medianScore);
+		buffer.putDouble(standardDeviation);
+		buffer.putInt(aliveAtEnd);
+		buffer.put((byte) (finishReached ? 1 : 0));
+		buffer.putLong(wallNanos);
+		buffer.putInt(evaluations);
+
+		buffer.flip();
+
+		return buffer;
+
+	}
+
+	// Returns the record as a tab separated row
+	public String toRow() {
+
+		return String.format(Locale.ROOT, "%d\t%d\t%d\t%.2f\t%.1f\t%.2f\t%d\t%b\t%.1f\t%d\t%.1f", generationNumber, population, bestScore, meanScore,
+				medianScore, standardDeviation, aliveAtEnd, finishReached, wallNanos / 1e6, evaluations, getEvaluationsPerSecond());
+
+	}
+
+	// Appends an encoded record to the telemetry file of a map, starting the file if there is none
+	public static void append(int mapNumber, ByteBuffer record) {
+
+		Path path = Paths.get(fileName(mapNumber));
+
+		try {
+
+			Files.createDirectories(path.getParent());
+
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+
+				long size = channel.size();
+
+				if (size < HEADER_SIZE) {
+
+					ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+					header.putInt(MAGIC);
+					header.put(VERSION);
+					header.flip();
+
+					channel.truncate(0);
+					writeFully(channel, header, 0);
+					size = HEADER_SIZE;
+
+				// Removes a record cut off part way through, so the next one lines up
+				} else if ((size - HEADER_SIZE) % RECORD_SIZE != 0) {
+
+					size -= (size - HEADER_SIZE) % RECORD_SIZE;
+					channel.truncate(size);
+
+				}
+
+				writeFully(channel, record.duplicate(), size);
+
+			}
+
+		} catch (IOException e) {
+
+			System.out.println("Could not write the telemetry of map " + mapNumber + ".\nIn game_navigator/GenerationTelemetry.");
+			e.printStackTrace();
+
+		}
+
+	}
+
+	/*
+	 * Reads every record of the telemetry file of a map, in the order they were written. Returns an
+	 * empty list if there is no file, and ignores a record cut off at the end.
+	 */
+	public static ArrayList<GenerationTelemetry> read(int mapNumber) {
+
+		ArrayList<GenerationTelemetry> records = new ArrayList<GenerationTelemetry>();
+		Path path = Paths.get(fileName(mapNumber));
+
+		if (!Files.exists(path)) {
+
+			return records;
+
+		}
+
+		try {
+
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+
+			if (buffer.limit() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+
+				throw new IOException("Not a telemetry file of this version");
+
+			}
+
+			while (buffer.remaining() >= RECORD_SIZE) {
+
+				records.add(new GenerationTelemetry(buffer));
+
+			}
+
+		} catch (IOException e) {
+
+			System.out.println("Could not read the telemetry of map " + mapNumber + ".\nIn game_navigator/GenerationTelemetry.");
+			e.printStackTrace();
+
+		}
+
+		return records;
+
+	}
+
+	public static void main(String[] args) {
+
+		try {
+
+			int mapNumber = Integer.parseInt(args[0]);
+
+			System.out.println(HEADER);
+
+			for (GenerationTelemetry record : read(mapNumber)) {
+
+				System.out.println(record.toRow());
+
+			}
+
+		} catch (NumberFormatException | ArrayIndexOutOfBoundsException err) {
+
+			System.out.println("Usage: GenerationTelemetry [map number]\nIn game_navigator/GenerationTelemetry.");
+
+		}
+
+	}
+
+	// Returns the median of the scores, the mean of the middle two if there is an even number of them
+	private static double median(int[] scores) {
+
+		if (scores.length == 0) {
+
+			return 0;
+
+		}
+
+		int[] values = scores.clone();
+		int middle = values.length / 2;
+
+		select(values, middle);
+
+		if (values.length % 2 == 1) {
+
+			return values[middle];
+
+		}
+
+		// Everything before the middle is no bigger than it, so the largest of them is the other middle value
+		int lower = values[0];
+
+		for (int i = 1; i < middle; i++) {
+
+			lower = Math.max(lower, values[i]);
+
+		}
+
+		return (lower + (double) values[middle]) / 2;
+
+	}
+
+	/*
+	 * Rearranges the values so the one at index k is the one that would be there if they were sorted,
+	 * with none bigger before it and none smaller after it (quickselect).
+	 */
+	private static void select(int[] values, int k) {
+
+		int left = 0;
+		int right = values.length - 1;
+
+		while (left < right) {
+
+			int pivot = values[left + (right - left) / 2];
+			int i = left;
+			int j = right;
+
+			// Moves the values smaller than the pivot to the left and bigger ones to the right
+			while (i <= j) {
+
+				while (values[i] < pivot) {
+
+					i++;
+
+				}
+
+				while (values[j] > pivot) {
+
+					j--;
+
+				}
+
+				if (i <= j) {
+
+					int swap = values[i];
+					values[i] = values[j];
+					values[j] = swap;
+
+					i++;
+					j--;
+
+				}
+
+			}
+
+			// Carries on in the part that holds k
+			if (k <= j) {
+
+				right = j;
+
+			} else if (k >= i) {
+
+				left = i;
+
+			} else {
+
+				return;
+
+			}
+
+		}
+
+	}
+
+	// Writes the whole buffer at a position of a file
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+
+		while (buffer.hasRemaining()) {
+
+			position += channel.write(buffer, position);
+
+		}
+
+	}
+
+}
@@ -6,14 +6,20 @@
 	 * Date Created: 5/26/2022
 	 * Description: Handles all graphics of the program. Has the array of GameObjects that it
 	 * draws on the screen. Also has a countdown number which displays the time remaining 
-	 * in each generation
+	 * in each generation. The objects of the map never move, so they are drawn once into an
+	 * image kept in video memory, and each repaint only copies it and draws the characters.
+	 * The characters and the countdown come from the newest snapshot published by the simulation,
+	 * drawn at most FRAME_RATE times a second however fast the simulation runs. F3 shows or hides an
+	 * overlay of how fast the game is running.
 	 */
 
 package game_navigator;
 
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.*;
 import java.util.*;
+import java.util.List;
 import javax.swing.*;
 
 public class GraphicsWindow extends JPanel {
@@ -21,21 +27,38 @@ public class GraphicsWindow extends JPanel {
 	// Layout of the window
 	LayoutManager myLayout;
 	
-	// Font and variable for the count down number
+	// Most frames drawn each second
+	public static final int FRAME_RATE = 60;
+	
+	// Font for the count down number
 	Font countdownFont;
-	private int countdownNumber;
 
-	// The objects to draw
-	ArrayList<GameObject> objects;
+	// Snapshots of the characters from the simulation
+	private SnapshotBuffer snapshots;
+	
+	// Repaints when a new snapshot has been published
+	private javax.swing.Timer frameTimer;
+	
+	// The objects of the map, which never move
+	private List<GameObject> staticObjects;
+	
+	// The objects of the map already drawn, and whether they must be drawn again
+	private VolatileImage staticLayer;
+	private boolean staticLayerChanged;
+	
+	// How fast the game is running, shown and hidden with F3
+	private PerformanceOverlay overlay = new PerformanceOverlay();
 
 	// Constructs the GraphicsWindow
-	public GraphicsWindow(ArrayList<GameObject> o) {
+	public GraphicsWindow(List<GameObject> staticSet, SnapshotBuffer snapshotsSet) {
 		
 		// Creates the JPanel
 		super();
 		
 		// Gets the objects from the game
-		objects = o;
+		staticObjects = staticSet;
+		snapshots = snapshotsSet;
+		staticLayerChanged = true;
 
 		this.setBackground(Color.WHITE); 
 
@@ -43,23 +66,49 @@ public class GraphicsWindow extends JPanel {
 		myLayout = null;
 		this.setLayout(myLayout);
 		
-		// Gets the initial countdown number and sets the font
-		countdownNumber = LearningManager.TIME_GIVEN / 1000;
+		// Sets the font
 		countdownFont = new Font("Calibri", 40, 60);
-
-	}
-	
-	// Updates the objects
-	public void updateObjects(ArrayList<GameObject> o) {
 		
-		objects = o;
+		// Checks for a new snapshot every frame, only repainting if there is one
+		frameTimer = new javax.swing.Timer(1000 / FRAME_RATE, new ActionListener() {
+			
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				
+				// The overlay is also kept up to date while the simulation is paused
+				if (snapshots.hasNew() || (overlay.isShown() && overlay.isSampleDue())) {
+					
+					repaint();
+					
+				}
+				
+			}
+			
+		});
+		
+		frameTimer.start();
 		
+		// F3 shows or hides the performance overlay from anywhere in the window
+		this.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "toggleOverlay");
+		this.getActionMap().put("toggleOverlay", new AbstractAction() {
+			
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				
+				overlay.toggle();
+				repaint();
+				
+			}
+			
+		});
+
 	}
 	
-	// Sets the number for the count down
-	public void setCountdownNumber(int time) {
+	// Updates the objects, drawing the objects of the new map again
+	public void updateObjects(List<GameObject> staticSet) {
 		
-		countdownNumber = time;
+		staticObjects = staticSet;
+		staticLayerChanged = true;
 		
 	}
 	  
@@ -67,16 +116,37 @@ public class GraphicsWindow extends JPanel {
 	@Override
 	public void paintComponent(Graphics g) {
 
-		super.paintComponent(g);
+		long paintStart = System.nanoTime();
+
+		// Copies the objects of the map, or draws them directly if there is no image to hold them
+		if (!drawStaticLayer(g)) {
+			
+			super.paintComponent(g);
+			
+			drawObjects(g, staticObjects, 0, staticObjects.size());
+			
+		}
+		
+		// Draws the characters where they were in the newest snapshot
+		WorldSnapshot snapshot = snapshots.getLatest();
+		int[] rectangles = snapshot.getRectangles();
+		int[] colors = snapshot.getColors();
+		
+		Color color = null;
 		
-		// Loops through all the objects
-		for (GameObject r : objects) {
+		for (int i = 0; i < snapshot.getCount(); i++) {
 			
-			// Changes the color depending on the type of object drawn
-			g.setColor(r.getColor());
+			int r = i * WorldSnapshot.RECTANGLE_SIZE;
 			
-			// Draws a rectangle representing the object
-			g.fillRect((int) r.getX(), (int) r.getY(), (int) r.getWidth(), (int) r.getHeight());
+			// The characters are almost always the same color, so it is only made when it changes
+			if (color == null || color.getRGB() != colors[i]) {
+				
+				color = new Color(colors[i], true);
+				g.setColor(color);
+				
+			}
+			
+			g.fillRect(rectangles[r], rectangles[r + 1], rectangles[r + 2], rectangles[r + 3]);
 			
 		}
 		
@@ -87,9 +157,91 @@ public class GraphicsWindow extends JPanel {
 		// This is the countdown number
 		g.setColor(Color.BLACK);
 		g.setFont(countdownFont);
-		g.drawString(Integer.toString(countdownNumber), GameManager.SCREEN_WIDTH - 200, 100);
+		g.drawString(Integer.toString(snapshot.getCountdownNumber()), GameManager.SCREEN_WIDTH - 200, 100);
+		
+		if (overlay.isShown()) {
+			
+			overlay.draw(g, snapshot);
+			
+		}
 
+		Metrics.RENDER.recordSince(paintStart);
 
 	}
+	
+	// Draws the objects of a list from the first index up to but not including the last
+	private void drawObjects(Graphics g, List<GameObject> list, int first, int last) {
+		
+		for (int i = first; i < last; i++) {
+			
+			GameObject r = list.get(i);
+			
+			// Changes the color depending on the type of object drawn
+			g.setColor(r.getColor());
+			
+			// Draws a rectangle representing the object
+			g.fillRect((int) r.getX(), (int) r.getY(), (int) r.getWidth(), (int) r.getHeight());
+			
+		}
+		
+	}
+	
+	/*
+	 * Copies the background and the objects of the map from their image, drawing the image again first
+	 * if the map changed or video memory lost it. Returns false if no image can be made, such as before
+	 * the window is shown.
+	 */
+	private boolean drawStaticLayer(Graphics g) {
+		
+		// Video memory can be lost while drawing, in which case everything is done again
+		do {
+			
+			int state = staticLayer == null ? VolatileImage.IMAGE_INCOMPATIBLE : staticLayer.validate(getGraphicsConfiguration());
+			
+			if (state == VolatileImage.IMAGE_INCOMPATIBLE || staticLayer.getWidth() != getWidth() || staticLayer.getHeight() != getHeight()) {
+				
+				if (staticLayer != null) {
+					
+					staticLayer.flush();
+					
+				}
+				
+				staticLayer = getWidth() > 0 && getHeight() > 0 ? createVolatileImage(getWidth(), getHeight()) : null;
+				
+				if (staticLayer == null) {
+					
+					return false;
+					
+				}
+				
+				staticLayerChanged = true;
+				
+			} else if (state == VolatileImage.IMAGE_RESTORED) {
+				
+				staticLayerChanged = true;
+				
+			}
+			
+			if (staticLayerChanged) {
+				
+				Graphics2D layer = staticLayer.createGraphics();
+				
+				layer.setColor(getBackground());
+				layer.fillRect(0, 0, getWidth(), getHeight());
+				drawObjects(layer, staticObjects, 0, staticObjects.size());
+				
+				layer.dispose();
+				
+				staticLayerChanged = false;
+				
+			}
+			
+			g.drawImage(staticLayer, 0, 0, null);
+			
+		} while (staticLayer.contentsLost());
+		
+		return true;
+		
+	}
 
 }
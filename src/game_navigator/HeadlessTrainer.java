@@ -0,0 +1,106 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  HeadlessTrainer
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Trains a map without opening any windows. Runs the simulation engine as fast as
+	 * the computer allows, writing each generation to the files just like the graphical program does.
+	 * Usage: HeadlessTrainer [map number] [number of generations] [seed]
+	 * The seed is only used when the map has not started training, otherwise the saved seed is kept.
+	 */
+
+package game_navigator;
+
+import java.util.*;
+
+public class HeadlessTrainer {
+
+	// Number of generations trained when none is given
+	public static final int DEFAULT_GENERATIONS = 1000;
+
+	public static void main(String[] args) {
+
+		int mapNumber = 1;
+		int generations = DEFAULT_GENERATIONS;
+		long seed = new SplittableRandom().nextLong();
+
+		// Parse exception catching
+		try {
+
+			// Gets the map number, the latest map by default
+			if (args.length > 0) {
+
+				mapNumber = Integer.parseInt(args[0]);
+
+			} else {
+
+				mapNumber = Integer.parseInt(GeneralMethods.readFile("final_files/starting_document.txt")[0][0]);
+
+			}
+
+			// Gets the number of generations to train
+			if (args.length > 1) {
+
+				generations = Integer.parseInt(args[1]);
+
+			}
+
+			// Gets the seed for a new run
+			if (args.length > 2) {
+
+				seed = Long.parseLong(args[2]);
+
+			}
+
+		} catch (NumberFormatException err) {
+
+			System.out.println("Usage: HeadlessTrainer [map number] [number of generations] [seed]\nIn game_navigator/HeadlessTrainer.");
+			return;
+
+		}
+
+		// Creates the map, the engine and the learning manager without a game
+		SimulationEngine engine = new SimulationEngine(new Map(mapNumber));
+		LearningManager learning = new LearningManager(engine, null, mapNumber, seed);
+
+		System.out.println("Training map " + mapNumber + " with seed " + learning.getRunSeed());
+
+		// Generations are simulated as whole populations, split across every core
+		ParallelEvaluator evaluator = new ParallelEvaluator(new PopulationStepper(engine.getStaticObjects()));
+
+		long startTime = System.nanoTime();
+		int trained = 0;
+
+		// Trains until the number of generations is reached or a character reaches the end
+		while (trained < generations && !learning.generationIsComplete()) {
+
+			learning.evaluateGeneration(evaluator);
+			trained++;
+
+			System.out.println("Generation " + learning.getCurrentGenerationNumber() + " best score " + learning.findTopPerforming().getScore());
+
+			if (!learning.generationIsComplete()) {
+
+				learning.nextGeneration();
+
+			}
+
+		}
+
+		double seconds = (System.nanoTime() - startTime) / 1e9;
+
+		if (learning.generationIsComplete()) {
+
+			System.out.println("Map " + mapNumber + " completed at generation " + learning.getLatestGenerationNumber());
+
+		}
+
+		FitnessCache cache = learning.getFitnessCache();
+
+		System.out.println("Fitness cache: " + cache.getHits() + " hits, " + cache.getMisses() + " misses");
+		System.out.println(trained + " generations in " + seconds + " seconds (" + (int) (trained * 60 / Math.max(seconds, 1e-9)) + " per minute)");
+
+	}
+
+}
@@ -61,6 +61,7 @@ public class HelpWindow extends JFrame {
 			g.drawString("obstacle (red) will kill the creature, and the finish", 50, 325);
 			g.drawString("(green) will finish the learning process and show the", 50, 360);
 			g.drawString("sucessful character.", 50, 395);
+			g.drawString("Press F3 to show or hide how fast it is running.", 50, 430);
 			g.drawString("Designed by Peter Alpajaro on 6/27/2022", 50, 465);
 			
 			
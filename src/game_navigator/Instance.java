@@ -11,6 +11,7 @@
 package game_navigator;
 
 import java.awt.event.*;
+import java.util.*;
 import javax.swing.*;
 
 public class Instance extends Character {
@@ -21,6 +22,9 @@ public class Instance extends Character {
 	// The score of the instance. determined as a function of distance, time and survival
 	private int score;
 	
+	// Whether the instance has touched a finish zone
+	private boolean reachedFinish;
+	
 	// Constructs a new instance
 	public Instance (Movement[] m) {
 		
@@ -45,26 +49,135 @@ public class Instance extends Character {
 		
 	}
 	
+	// Records that the instance touched a finish zone
+	public void reachFinish() {
+		
+		this.reachedFinish = true;
+		
+	}
+	
+	// Returns whether the instance has touched a finish zone
+	public boolean hasReachedFinish() {
+		
+		return this.reachedFinish;
+		
+	}
+	
 	// Increases the score
 	public void increaseScore() {
 		
+		score = increasedScore(score, this.getIntX(), this.isAlive());
+		
+	}
+	
+	// Sets the score, used when the instance was simulated somewhere else
+	public void setScore(int scoreSet) {
+		
+		this.score = scoreSet;
+		
+	}
+	
+	// Returns the score after one more tick at the given x coordinate
+	public static int increasedScore(int score, int x, boolean alive) {
+		
 		// Reward living instances
-		if (this.isAlive()) {
+		if (alive) {
 			
-			score += this.getX();
+			return score + x;
 			
 		} else {
 			
-			score += (this.getX() / 2);
+			return (int) (score + x / 2.0);
 			
 		}
 		
+	}
+	
+	/*
+	 * Returns the score after the given number of ticks at the same x coordinate, the same as calling
+	 * increasedScore that many times.
+	 */
+	public static int increasedScore(int score, int x, boolean alive, int ticks) {
+		
+		if (alive) {
+			
+			return score + ticks * x;
+			
+		}
+		
+		// Half of an even x is always added exactly
+		if (x % 2 == 0) {
+			
+			return score + ticks * (x / 2);
+			
+		}
+		
+		/*
+		 * Half of an odd x ends in .5, which is cut towards zero. The score goes up by half (rounded down)
+		 * while the total is positive and by one more while it is negative.
+		 */
+		int half = x >> 1;
+		
+		if (half >= 0) {
+			
+			// Rises by half + 1 until the total becomes positive, then by half
+			int deficit = -half - score;
+			int rising = deficit > 0 ? Math.min(ticks, (deficit + half) / (half + 1)) : 0;
+			
+			score += rising * (half + 1);
+			
+			return score + (ticks - rising) * half;
+			
+		} else {
+			
+			// Falls by half while the total is positive, then by half + 1
+			int falling = score + half >= 0 ? Math.min(ticks, (score + half) / -half + 1) : 0;
+			
+			score += falling * half;
+			
+			return score + (ticks - falling) * (half + 1);
+			
+		}
+		
+	}
+	
+	// Returns whether the last movement has started, after which the movement never changes
+	public boolean lastMovementStarted(int time) {
+		
+		return movements[movements.length - 1].getLength() < time;
+		
+	}
+	
+	/*
+	 * Scores the remaining ticks of a generation in which this instance can no longer change, then stops
+	 * it. The last tick scores it as stopped, as LearningManager.setMovements kills every instance then.
+	 */
+	public void scoreRemaining(int ticks) {
+		
+		if (ticks > 0) {
+			
+			score = increasedScore(score, this.getIntX(), this.isAlive(), ticks - 1);
+			score = increasedScore(score, this.getIntX(), false);
+			
+		}
+		
+		endGeneration();
 		
 	}
 	
-	// Creates a mutated version of the instance with slightly altered traits
+	// Creates a mutated version of the instance with slightly altered traits, from an unseeded generator
 	public Instance mutation(double mutationPercent) {
 		
+		return mutation(mutationPercent, new SplittableRandom());
+		
+	}
+	
+	/*
+	 * Creates a mutated version of the instance with slightly altered traits. Each offspring should be
+	 * given its own generator, split from the generator of its generation, so runs can be replayed.
+	 */
+	public Instance mutation(double mutationPercent, SplittableRandom random) {
+		
 		Movement[] newMovements = new Movement[this.movements.length];
 		
 		for (int i = 0; i < movements.length; i++) {
@@ -76,7 +189,7 @@ public class Instance extends Character {
 			
 			// Small percentage to change movement directions
 			// Jump change
-			if (Math.random() * 100 < mutationPercent / 4) {
+			if (random.nextDouble() * 100 < mutationPercent / 4) {
 				
 				newJump = !movements[i].doesJump();
 				
@@ -87,7 +200,7 @@ public class Instance extends Character {
 			}
 			
 			// Right change
-			if (Math.random() * 100 < mutationPercent / 4) {
+			if (random.nextDouble() * 100 < mutationPercent / 4) {
 				
 				newRight = !movements[i].movesRight();
 				
@@ -98,7 +211,7 @@ public class Instance extends Character {
 			}
 			
 			// Left change
-			if (Math.random() * 100 < mutationPercent / 4) {
+			if (random.nextDouble() * 100 < mutationPercent / 4) {
 				
 				newLeft = !movements[i].movesLeft();
 				
@@ -109,7 +222,7 @@ public class Instance extends Character {
 			}
 			
 			// Random number of milliseconds to add to the length of the movement. Dependent on the mutation percent
-			newLength = movements[i].getLength() + (int) (Math.random() * (2000 * (mutationPercent / 100)) - (1000 * (mutationPercent / 100)));
+			newLength = movements[i].getLength() + (int) (random.nextDouble() * (2000 * (mutationPercent / 100)) - (1000 * (mutationPercent / 100)));
 			
 			// Cannot have negative time on a movement
 			if (newLength <= 0) {
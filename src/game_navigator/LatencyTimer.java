@@ -0,0 +1,216 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  LatencyTimer
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Records how long something takes in a histogram, so the mean, the median, the 99th
+	 * percentile and the longest time can be seen while the program runs. Each power of two is split
+	 * into SUB_BUCKETS buckets, so every time is placed within an eighth of its value, and recording is
+	 * only a few atomic additions to fixed arrays. Nothing is allocated, so timing the ticks does not
+	 * make the garbage collector run. Any thread can record at any time.
+	 */
+
+package game_navigator;
+
+import java.util.concurrent.atomic.*;
+
+public class LatencyTimer implements LatencyTimerMBean {
+
+	// Bits of each time that pick its bucket within its power of two
+	private static final int SUB_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	// Enough buckets for any positive long
+	public static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+	// Number of times in each bucket
+	private AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	// Totals of every time recorded
+	private AtomicLong count = new AtomicLong();
+	private AtomicLong total = new AtomicLong();
+	private AtomicLong max = new AtomicLong();
+
+	// Records a time in nanoseconds
+	public void record(long nanos) {
+
+		if (nanos < 0) {
+
+			nanos = 0;
+
+		}
+
+		counts.incrementAndGet(bucket(nanos));
+		count.incrementAndGet();
+		total.addAndGet(nanos);
+
+		long oldMax = max.get();
+
+		while (nanos > oldMax && !max.compareAndSet(oldMax, nanos)) {
+
+			oldMax = max.get();
+
+		}
+
+	}
+
+	// Records the time since a System.nanoTime() taken at the start
+	public void recordSince(long startNanos) {
+
+		record(System.nanoTime() - startNanos);
+
+	}
+
+	@Override
+	public long getCount() {
+
+		return count.get();
+
+	}
+
+	// Returns the sum of every time recorded
+	public long getTotalNanos() {
+
+		return total.get();
+
+	}
+
+	@Override
+	public double getMeanNanos() {
+
+		long recorded = count.get();
+
+		return recorded == 0 ? 0 : (double) total.get() / recorded;
+
+	}
+
+	@Override
+	public long getMedianNanos() {
+
+		return getPercentile(50);
+
+	}
+
+	@Override
+	public long getPercentile99Nanos() {
+
+		return getPercentile(99);
+
+	}
+
+	@Override
+	public long getMaxNanos() {
+
+		return max.get();
+
+	}
+
+	// Returns the time the given percent of recordings were at or under, to within its bucket
+	public long getPercentile(double percent) {
+
+		long[] bucketCounts = new long[BUCKETS];
+		copyCounts(bucketCounts);
+
+		// Never more than the longest time
+		return Math.min(getPercentile(bucketCounts, percent), max.get());
+
+	}
+
+	// Copies the number of times in each bucket into an array of BUCKETS values
+	public void copyCounts(long[] bucketCounts) {
+
+		for (int b = 0; b < BUCKETS; b++) {
+
+			bucketCounts[b] = counts.get(b);
+
+		}
+
+	}
+
+	/*
+	 * Returns the time the given percent of recordings were at or under, to within its bucket, from the
+	 * counts of each bucket. The counts can be the difference between two copies, to find the
+	 * percentile of only the times recorded between them.
+	 */
+	public static long getPercentile(long[] bucketCounts, double percent) {
+
+		long recorded = 0;
+
+		for (int b = 0; b < BUCKETS; b++) {
+
+			recorded += bucketCounts[b];
+
+		}
+
+		if (recorded == 0) {
+
+			return 0;
+
+		}
+
+		// Position of the recording wanted, counting from one
+		long wanted = Math.max(1, (long) Math.ceil(recorded * percent / 100));
+		long seen = 0;
+		int b = 0;
+
+		while (b < BUCKETS - 1 && seen + bucketCounts[b] < wanted) {
+
+			seen += bucketCounts[b];
+			b++;
+
+		}
+
+		// The top of the bucket
+		return bucketTop(b);
+
+	}
+
+	@Override
+	public void reset() {
+
+		for (int b = 0; b < BUCKETS; b++) {
+
+			counts.set(b, 0);
+
+		}
+
+		count.set(0);
+		total.set(0);
+		max.set(0);
+
+	}
+
+	// Returns the bucket of a time
+	private static int bucket(long nanos) {
+
+		if (nanos < SUB_BUCKETS) {
+
+			return (int) nanos;
+
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+
+	}
+
+	// Returns the longest time placed in a bucket
+	private static long bucketTop(int bucket) {
+
+		if (bucket < SUB_BUCKETS) {
+
+			return bucket;
+
+		}
+
+		int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+		long width = 1L << (exponent - SUB_BITS);
+
+		return ((SUB_BUCKETS + bucket % SUB_BUCKETS) * width) + width - 1;
+
+	}
+
+}
@@ -0,0 +1,30 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  LatencyTimerMBean
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: What a LatencyTimer shows through JMX. Times are in nanoseconds.
+	 */
+
+package game_navigator;
+
+public interface LatencyTimerMBean {
+
+	// Number of times recorded
+	long getCount();
+
+	// Mean of the times recorded
+	double getMeanNanos();
+
+	// Times half and 99 percent of the recordings were at or under
+	long getMedianNanos();
+	long getPercentile99Nanos();
+
+	// Longest time recorded
+	long getMaxNanos();
+
+	// Forgets every time recorded
+	void reset();
+
+}
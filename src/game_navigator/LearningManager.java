@@ -30,6 +30,9 @@ public class LearningManager {
 	// Constant for code comprehension
 	public static final int FINAL_GENERATION_CHANGE = 0;
 	
+	// Number of generations between checkpoints of the generation about to be run
+	public static final int CHECKPOINT_INTERVAL = 1;
+	
 	// Numbers representing the generation
 	private int currentGenerationNumber;
 	private int latestGenerationNumber;
@@ -41,61 +44,148 @@ public class LearningManager {
 	private Instance[] currentGeneration;
 	private Instance finalInstance;
 	
-	// Reference to the game
+	// Reference to the game, null when training without graphics
 	private GameManager game;
 	
+	// The engine that simulates the generations
+	private SimulationEngine engine;
+	
 	// The map that this generation is learning from
 	private int mapNumber;
 	
-	// Creates the learning manager, with a reference to the game
-	public LearningManager(GameManager m, int accessNumber) {
+	// When the movement of each instance of the current generation changes
+	private MovementSchedule schedule;
+	
+	// Results of genomes already simulated on this map, kept across generations
+	private FitnessCache fitnessCache = new FitnessCache();
+	
+	// Every generation of this map
+	private GenerationLog generationLog;
+	
+	// Generations recently read, and those around them
+	private GenerationCache generationCache;
+	
+	// Writes the files without making the simulation wait
+	private PersistenceQueue persistence = PersistenceQueue.getShared();
+	
+	// Seed that every random choice of this map's training comes from, saved with the generations
+	private long runSeed;
+	
+	/*
+	 * Scores of the current generation from evaluating it, or null until it has them. Kept apart since
+	 * showing the generation in the game adds to the scores of its instances.
+	 */
+	private int[] evaluatedScores;
+	
+	// When the latest generation was started, to time each generation
+	private long generationStart = System.nanoTime();
+	
+	// Number of the last generation whose telemetry was recorded
+	private int telemetryGeneration = -1;
+	
+	// Flight recorder event of the latest generation, or null if the events are off
+	private FlightEvents.GenerationEvent generationEvent;
+	
+	// Creates the learning manager, with a reference to the engine and the game
+	public LearningManager(SimulationEngine engineSet, GameManager m, int accessNumber) {
+		
+		this(engineSet, m, accessNumber, new SplittableRandom().nextLong());
 		
+	}
+	
+	/*
+	 * Creates the learning manager. The seed is only used if the map has no seed saved yet, otherwise
+	 * training continues from the saved one.
+	 */
+	public LearningManager(SimulationEngine engineSet, GameManager m, int accessNumber, long seed) {
+		
+		engine = engineSet;
 		game = m;
 		
 		mapNumber = accessNumber;
+		runSeed = seed;
 		
-		try {
+		// The same log the queue is still writing this map's generations to, if it is
+		generationLog = GenerationLog.getShared(mapNumber);
+		
+		generationCache = new GenerationCache(new GenerationCache.Loader() {
 			
-			// Reads the general file and gets the latest generation
-			FileReader fileReader = new FileReader("final_files/maps/map" + mapNumber + "/general_information.txt");
-			BufferedReader input = new BufferedReader(fileReader);
+			@Override
+			public Instance[] load(int generationNumber) {
+				
+				return loadGeneration(generationNumber);
+				
+			}
 			
-			// Generation number and whether the program is complete or not, and if so, the instance that completed it
-			currentGenerationNumber = Integer.parseInt(input.readLine());
-			latestGenerationNumber = currentGenerationNumber;
+		});
+		
+		// Reads the general file and gets the latest generation, from the queue if it is still waiting to be written
+		String[][] queuedGeneral = persistence.readFile(GeneralMethods.GENERAL_TYPE, 0, mapNumber);
+		
+		try {
 			
-			generationComplete = input.readLine().equals("true");
+			// The movements of the instance that completed the map, if it has been
+			Movement[] finalMovements = null;
 			
-			// If the generation is complete, just display the successful attempt
-			if (generationComplete) {
+			if (queuedGeneral != null) {
 				
-				currentGeneration = new Instance[1];
+				currentGenerationNumber = Integer.parseInt(queuedGeneral[0][0]);
+				latestGenerationNumber = currentGenerationNumber;
+				generationComplete = Boolean.parseBoolean(queuedGeneral[0][1]);
 				
-				// Gets the final instance from the file
-				String finalInstanceStringRep = input.readLine();
-				String[] instanceRepresentation = new String[MOVEMENT_NUMBER * 4];
-				StringTokenizer dividedString = new StringTokenizer(finalInstanceStringRep);
+				if (generationComplete) {
+					
+					finalMovements = GenerationFile.parseTextMovements(queuedGeneral[0][2], MOVEMENT_NUMBER);
+					
+				}
 				
-				for (int i = 0; i < MOVEMENT_NUMBER * 4; i++) {
+			} else {
+				
+				try (TextRowReader input = new TextRowReader("final_files/maps/map" + mapNumber + "/general_information.txt")) {
+					
+					// Generation number and whether the program is complete or not, and if so, the instance that completed it
+					currentGenerationNumber = input.nextInt();
+					latestGenerationNumber = currentGenerationNumber;
+					input.nextRow();
+					
+					generationComplete = input.nextBoolean();
+					input.nextRow();
 					
-					instanceRepresentation[i] = dividedString.nextToken();
+					if (generationComplete) {
+						
+						finalMovements = GenerationFile.readTextMovements(input, MOVEMENT_NUMBER);
+						
+					}
 					
 				}
 				
-				// Sets the final instance
-				finalInstance = stringToInstance(instanceRepresentation);
+			}
+			
+			// If the generation is complete, just display the successful attempt
+			if (generationComplete) {
+				
+				currentGeneration = new Instance[1];
+				
+				// Sets the final instance from the file
+				finalInstance = new Instance(finalMovements);
 				
 				// Adds the final instance to the generation
 				currentGeneration[0] = finalInstance;
 				
 				// Adds the one instance to the game
-				game.addObject(finalInstance);
-				game.addToList(GameManager.GENERATION_LIST, "Successful Character");
+				engine.addInstance(finalInstance);
+				
+				// The successful character is not a generation of its own to record
+				telemetryGeneration = currentGenerationNumber;
+				
+				if (game != null) {
+					
+					game.addToList(GameManager.GENERATION_LIST, "Successful Character");
+					
+				}
 				
 			}
 			
-			input.close();
-			
 		// Print appropriate message in case of error.
 		} catch (Exception e) {
 			
@@ -105,6 +195,37 @@ public class LearningManager {
 			
 		}
 		
+		// A new run keeps the seed given, an old one continues with its saved seed
+		String[][] queuedSeed = persistence.readFile(GeneralMethods.SEED_TYPE, 0, mapNumber);
+		
+		if (currentGenerationNumber != 0 && queuedSeed != null) {
+			
+			runSeed = Long.parseLong(queuedSeed[0][0]);
+			
+		} else if (currentGenerationNumber != 0 && new File(seedFileName()).exists()) {
+			
+			try {
+				
+				try (TextRowReader input = new TextRowReader(seedFileName())) {
+					
+					GeneralMethods.readRowCount(input);
+					runSeed = input.nextLong();
+					
+				}
+				
+			} catch (Exception e) {
+				
+				System.out.println("Seed read or format error. check character_data/seed.txt\nIn game_navigator/LearningManager.java");
+				e.printStackTrace();
+				
+			}
+			
+		} else {
+			
+			persistence.writeFile(new String[][] {{Long.toString(runSeed)}}, GeneralMethods.SEED_TYPE, 0, mapNumber);
+			
+		}
+		
 		// If this is the first generation then create a brand new generation to start
 		if (currentGenerationNumber == 0 && !generationComplete) {
 			
@@ -112,48 +233,216 @@ public class LearningManager {
 			currentGeneration = newGeneration();
 
 			// Write this generation to a file
-			GeneralMethods.writeToFile(generationToString(), GeneralMethods.GENERATION_DATA_TYPE, currentGenerationNumber, mapNumber);
+			persistence.writeGeneration(generationLog, currentGenerationNumber, currentGeneration, null);
 			
 		// If one already exists then read the old one and execute
 		} else if (!generationComplete) {
 			
-			// Get the data of the latest generation
-			String[][] generationData = GeneralMethods.readFile("final_files/maps/map" + mapNumber + "/character_data/generation" + currentGenerationNumber + ".txt");
+			// Get the latest generation
+			currentGeneration = readGeneration(currentGenerationNumber);
 			
-			currentGeneration = new Instance[generationData.length];
+			// If it cannot be read, training carries on from the newest generation before it that can
+			while (currentGeneration == null && currentGenerationNumber > 1) {
+				
+				System.out.println("Generation " + currentGenerationNumber + " of map " + mapNumber + " could not be read, training continues from the one before it.\nIn game_navigator/LearningManager.");
+				
+				currentGenerationNumber--;
+				latestGenerationNumber = currentGenerationNumber;
+				currentGeneration = readGeneration(currentGenerationNumber);
+				
+			}
 			
-			// Looping through and setting each instance
-			for (int i = 0; i < currentGeneration.length; i++) {
+			// If none can be read, training starts again
+			if (currentGeneration == null) {
+				
+				System.out.println("No generation of map " + mapNumber + " could be read, training starts again.\nIn game_navigator/LearningManager.");
+				
+				currentGeneration = newGeneration();
+				persistence.writeGeneration(generationLog, currentGenerationNumber, currentGeneration, null);
+				
+			} else {
 				
-				currentGeneration[i] = stringToInstance(generationData[i]);
-				game.addObject(currentGeneration[i]);
+				// Takes the results known from the checkpoint so those instances are not simulated again
+				restoreCheckpoint();
+				
+				// Looping through and adding each instance
+				for (int i = 0; i < currentGeneration.length; i++) {
+					
+					engine.addInstance(currentGeneration[i]);
+					
+				}
 				
 			}
 			
 		}
+		
+		startGenerationEvent();
 	
 	}
 	
+	// Starts the flight recorder event of the latest generation
+	private void startGenerationEvent() {
+		
+		if (FlightEvents.ENABLED) {
+			
+			generationEvent = new FlightEvents.GenerationEvent();
+			generationEvent.begin();
+			
+		}
+		
+	}
+	
+	// Ends the flight recorder event of the latest generation with the best score it reached
+	private void endGenerationEvent(int bestScore) {
+		
+		if (FlightEvents.ENABLED && generationEvent != null) {
+			
+			generationEvent.end();
+			
+			if (generationEvent.shouldCommit()) {
+				
+				generationEvent.mapNumber = mapNumber;
+				generationEvent.generationNumber = latestGenerationNumber;
+				generationEvent.population = currentGeneration.length;
+				generationEvent.bestScore = bestScore;
+				generationEvent.commit();
+				
+			}
+			
+			generationEvent = null;
+			
+		}
+		
+	}
+	
+	/*
+	 * Puts the results the map's checkpoint knew of the current generation into the fitness cache, if
+	 * the checkpoint is of this generation, made with the same settings and holds exactly the same
+	 * movements.
+	 */
+	private void restoreCheckpoint() {
+		
+		Checkpoint checkpoint = persistence.readCheckpoint(mapNumber);
+		
+		if (checkpoint == null || currentGeneration == null || checkpoint.getMapNumber() != mapNumber
+				|| checkpoint.getGenerationNumber() != currentGenerationNumber || !checkpoint.matchesSettings()) {
+			
+			return;
+			
+		}
+		
+		if (!GenerationFile.encode(checkpoint.getGeneration()).equals(GenerationFile.encode(currentGeneration))) {
+			
+			return;
+			
+		}
+		
+		FitnessCache.Fitness[] fitness = checkpoint.getFitness();
+		
+		for (int i = 0; i < currentGeneration.length; i++) {
+			
+			if (fitness[i] != null) {
+				
+				fitnessCache.put(mapNumber, currentGeneration[i].getMovements(), fitness[i]);
+				
+			}
+			
+		}
+		
+		runSeed = checkpoint.getRunSeed();
+		
+	}
+	
+	/*
+	 * Queues a checkpoint of the generation just bred, with the results already known of its
+	 * instances, every CHECKPOINT_INTERVAL generations. A restart continues from it.
+	 */
+	private void writeCheckpoint() {
+		
+		if (currentGenerationNumber % CHECKPOINT_INTERVAL == 0) {
+			
+			FitnessCache.Fitness[] fitness = new FitnessCache.Fitness[currentGeneration.length];
+			
+			for (int i = 0; i < fitness.length; i++) {
+				
+				fitness[i] = fitnessCache.peek(mapNumber, currentGeneration[i].getMovements());
+				
+			}
+			
+			persistence.writeCheckpoint(new Checkpoint(mapNumber, currentGenerationNumber, runSeed, currentGeneration, fitness));
+			
+		}
+		
+	}
+	
+	// Returns new instances of a generation, kept in memory after it is first read
+	private Instance[] readGeneration(int generationNumber) {
+		
+		return generationCache.get(generationNumber);
+		
+	}
+	
+	// Reads a generation from the log, or from its own file if it was saved before the log
+	private Instance[] loadGeneration(int generationNumber) {
+		
+		Instance[] generation = persistence.readGeneration(generationLog, generationNumber);
+		
+		if (generation == null) {
+			
+			generation = GenerationFile.read(mapNumber, generationNumber);
+			
+		}
+		
+		return generation;
+		
+	}
+	
+	// Returns the name of the file holding the seed of this map
+	private String seedFileName() {
+		
+		return "final_files/maps/map" + mapNumber + "/character_data/seed.txt";
+		
+	}
+	
+	// Returns the seed of this map's training
+	public long getRunSeed() {
+		
+		return this.runSeed;
+		
+	}
+	
+	/*
+	 * Returns the generator for creating the given generation. It depends only on the seed and the
+	 * generation number, so any generation can be created again without replaying the ones before it.
+	 */
+	public SplittableRandom generationRandom(int generationNumber) {
+		
+		return new SplittableRandom(new SplittableRandom(runSeed + generationNumber).nextLong());
+		
+	}
+	
 	// An instance has cleared the stage and will now be shown alone
 	public void setFinalInstance(Instance instanceSet) {
 		
 		this.finalInstance = instanceSet;
 		this.generationComplete = true;
 		
-		String finalInstanceStringRep = "";
+		StringBuilder finalInstanceStringRep = new StringBuilder(MOVEMENT_NUMBER * 24);
 		
 		// Puts the final instance into a readable format
 		for (int i = 0; i < MOVEMENT_NUMBER; i++) {
 			
-			finalInstanceStringRep += finalInstance.getMovements()[i].doesJump() + " ";
-			finalInstanceStringRep += finalInstance.getMovements()[i].movesLeft() + " ";
-			finalInstanceStringRep += finalInstance.getMovements()[i].movesRight() + " ";
-			finalInstanceStringRep += finalInstance.getMovements()[i].getLength() + " ";
+			Movement m = finalInstance.getMovements()[i];
+			
+			finalInstanceStringRep.append(m.doesJump()).append(' ');
+			finalInstanceStringRep.append(m.movesLeft()).append(' ');
+			finalInstanceStringRep.append(m.movesRight()).append(' ');
+			finalInstanceStringRep.append(m.getLength()).append(' ');
 			
 		}
 		
 		// Writes this to a file
-		GeneralMethods.writeToFile(new String[][] {{Integer.toString(latestGenerationNumber), Boolean.toString(generationComplete), finalInstanceStringRep}}, GeneralMethods.GENERAL_TYPE, 0, mapNumber);
+		persistence.writeFile(new String[][] {{Integer.toString(latestGenerationNumber), Boolean.toString(generationComplete), finalInstanceStringRep.toString()}}, GeneralMethods.GENERAL_TYPE, 0, mapNumber);
 		
 	}
 	
@@ -181,11 +470,7 @@ public class LearningManager {
 	// Clears the game of the currentGeneration
 	public void clearGeneration() {
 		
-		for (Instance i : currentGeneration) {
-			
-			game.removeObject(i);
-			
-		}
+		engine.removeInstances(currentGeneration);
 		
 	}
 	
@@ -212,30 +497,27 @@ public class LearningManager {
 	// Sets the movements depending on the time passed.
 	public void setMovements(int time) {
 		
-		// All generation instances
-		for (int i = 0; i < currentGeneration.length; i++) {
-
-			// Kill after the time has passed
-			if (time > LearningManager.TIME_GIVEN) {
-
-				currentGeneration[i].kill();
-
-			} else {
-
-				// Loop through the movements
-				for (int j = 0; j < currentGeneration[i].getMovements().length; j++) {
-					
-					// If in the time frame of that movement call the movement on the character
-					if (currentGeneration[i].getMovements()[j].getLength() < time) {
-						
-						currentGeneration[i].setMovement(currentGeneration[i].getMovements()[j]);
-
-					}
-
-				}
-
+		// Kill after the time has passed
+		if (time > LearningManager.TIME_GIVEN) {
+			
+			for (int i = 0; i < currentGeneration.length; i++) {
+				
+				currentGeneration[i].endGeneration();
+				
 			}
 			
+		} else {
+			
+			// Compiles the movements again whenever the generation changes
+			if (schedule == null || !schedule.isFor(currentGeneration)) {
+				
+				schedule = new MovementSchedule(currentGeneration);
+				
+			}
+			
+			// Only the instances whose movement changes on this tick are set
+			schedule.apply(time / SimulationEngine.TICK_LENGTH);
+			
 		}
 		
 	}
@@ -251,12 +533,166 @@ public class LearningManager {
 		
 	}
 	
+	/*
+	 * Simulates the whole generation at once in a PopulationStore instead of tick by tick in the engine,
+	 * then gives each instance its score and records the first to reach the end. Genomes already in the
+	 * fitness cache, including those restored from a checkpoint, are not simulated again, and a
+	 * generation already evaluated is not simulated at all.
+	 */
+	public void evaluateGeneration(ParallelEvaluator evaluator) {
+		
+		if (evaluatedScores != null) {
+			
+			return;
+			
+		}
+		
+		FitnessCache.Fitness[] results = new FitnessCache.Fitness[currentGeneration.length];
+		ArrayList<Integer> simulated = new ArrayList<Integer>();
+		
+		for (int i = 0; i < currentGeneration.length; i++) {
+			
+			results[i] = fitnessCache.get(mapNumber, currentGeneration[i].getMovements());
+			
+			if (results[i] == null) {
+				
+				simulated.add(i);
+				
+			}
+			
+		}
+		
+		// Simulates the genomes that were not found
+		if (!simulated.isEmpty()) {
+			
+			Instance[] missing = new Instance[simulated.size()];
+			
+			for (int k = 0; k < missing.length; k++) {
+				
+				missing[k] = currentGeneration[simulated.get(k)];
+				
+			}
+			
+			PopulationStore population = PopulationStore.fromInstances(missing);
+			
+			evaluator.evaluate(population);
+			
+			for (int k = 0; k < missing.length; k++) {
+				
+				results[simulated.get(k)] = new FitnessCache.Fitness(population.getScore(k), population.finishTick[k], population.finishZone[k],
+						population.isAliveAtEnd(k));
+				fitnessCache.put(mapNumber, missing[k].getMovements(), results[simulated.get(k)]);
+				
+			}
+			
+		}
+		
+		// Sets the scores and finds the instance that would have reached the end first
+		int finisher = -1;
+		int alive = 0;
+		
+		for (int i = 0; i < currentGeneration.length; i++) {
+			
+			currentGeneration[i].setScore(results[i].getScore());
+			
+			if (results[i].isAliveAtEnd()) {
+				
+				alive++;
+				
+			}
+			
+			if (results[i].getFinishTick() != 0 && (finisher == -1 || results[i].getFinishTick() < results[finisher].getFinishTick()
+					|| (results[i].getFinishTick() == results[finisher].getFinishTick() && results[i].getFinishZone() < results[finisher].getFinishZone()))) {
+				
+				finisher = i;
+				
+			}
+			
+		}
+		
+		// Records the first instance to reach the end
+		if (finisher != -1 && !generationComplete) {
+			
+			setFinalInstance(currentGeneration[finisher]);
+			
+		}
+		
+		evaluatedScores = new int[currentGeneration.length];
+		
+		for (int i = 0; i < currentGeneration.length; i++) {
+			
+			evaluatedScores[i] = currentGeneration[i].getScore();
+			
+		}
+		
+		recordTelemetry(alive, finisher != -1, simulated.size());
+		
+	}
+	
+	/*
+	 * Queues the statistics of the latest generation once it has been scored, the first time it is.
+	 * The scores are those the instances have now.
+	 */
+	private void recordTelemetry(int alive, boolean finishReached, int evaluations) {
+		
+		if (currentGenerationNumber != latestGenerationNumber || telemetryGeneration == currentGenerationNumber) {
+			
+			return;
+			
+		}
+		
+		int[] scores = new int[currentGeneration.length];
+		
+		for (int i = 0; i < scores.length; i++) {
+			
+			scores[i] = currentGeneration[i].getScore();
+			
+		}
+		
+		persistence.writeTelemetry(mapNumber, new GenerationTelemetry(currentGenerationNumber, scores, alive, finishReached, System.nanoTime() - generationStart, evaluations));
+		telemetryGeneration = currentGenerationNumber;
+		
+	}
+	
+	// Records the telemetry of a generation the game has just shown, from the instances it ran
+	private void recordShownTelemetry() {
+		
+		int alive = 0;
+		
+		for (int i = 0; i < currentGeneration.length; i++) {
+			
+			if (currentGeneration[i].isAliveAtEnd()) {
+				
+				alive++;
+				
+			}
+			
+		}
+		
+		recordTelemetry(alive, generationComplete, currentGeneration.length);
+		
+	}
+	
+	// Returns the results of the genomes simulated on this map
+	public FitnessCache getFitnessCache() {
+		
+		return this.fitnessCache;
+		
+	}
+	
 	// Creates a new mutated generation based on the previous one with a population of 20, or displays the successful instance
 	public void nextGeneration() {
 		
 		// If the generation has been finished, display the successful attempt
 		if ((generationComplete && latestGenerationNumber <= currentGenerationNumber + 1) || currentGenerationNumber == FINAL_GENERATION_CHANGE) {
 			
+			// The generation the game was showing when a character reached the finish
+			if (evaluatedScores == null) {
+				
+				recordShownTelemetry();
+				
+			}
+			
 			clearGeneration();
 			
 			currentGeneration = new Instance[1];
@@ -266,10 +702,14 @@ public class LearningManager {
 
 			// Adds it to the generation
 			currentGeneration[0] = finalInstance;
-			game.addObject(finalInstance);
+			engine.addInstance(finalInstance);
 			
-			game.setSelectedItem(GameManager.GENERATION_LIST, "Successful Character");
-			game.startTimer();
+			if (game != null) {
+				
+				game.setSelectedItem(GameManager.GENERATION_LIST, "Successful Character");
+				game.startTimer();
+				
+			}
 			
 			
 		// If not a new generation change to the next one
@@ -277,21 +717,46 @@ public class LearningManager {
 			
 			currentGenerationNumber++;
 			changeGeneration(currentGenerationNumber);
-			game.setSelectedItem(GameManager.GENERATION_LIST, Integer.toString(currentGenerationNumber));
-			game.startTimer();
+			
+			if (game != null) {
+				
+				game.setSelectedItem(GameManager.GENERATION_LIST, Integer.toString(currentGenerationNumber));
+				game.startTimer();
+				
+			}
 			
 		// If the latest generation then make a new generation
 		} else {
 			
+			// A generation scored by the game rather than evaluateGeneration has its telemetry recorded here
+			if (evaluatedScores == null) {
+				
+				recordShownTelemetry();
+				
+			} else {
+				
+				for (int i = 0; i < currentGeneration.length; i++) {
+					
+					currentGeneration[i].setScore(evaluatedScores[i]);
+					
+				}
+				
+			}
+			
 			clearGeneration();
 
 			// Finds the most successful instance.
 			Instance topPerforming = findTopPerforming();
 			
+			endGenerationEvent(topPerforming.getScore());
+			
 			Instance[] newGeneration = new Instance[POPULATION_COUNT];
 			
+			// Every offspring gets its own generator split from the one for this generation
+			SplittableRandom random = generationRandom(currentGenerationNumber + 1);
+			
 			// First instance is unaltered
-			newGeneration[0] = topPerforming.mutation(0);
+			newGeneration[0] = topPerforming.mutation(0, random.split());
 
 			// Loops through the population count
 			for (int i = 0; i < newGeneration.length; i++) {
@@ -299,12 +764,12 @@ public class LearningManager {
 				if (i != 0) {
 					
 					// New mutation based on the most successful of the previous generation
-					newGeneration[i] = topPerforming.mutation(MUTATION_PERCENT);
+					newGeneration[i] = topPerforming.mutation(MUTATION_PERCENT, random.split());
 					
 				}
 				
 				// Adds it to the game
-				game.addObject(newGeneration[i]);
+				engine.addInstance(newGeneration[i]);
 
 			}
 
@@ -312,19 +777,32 @@ public class LearningManager {
 			currentGenerationNumber++;
 			latestGenerationNumber++;
 			
+			Metrics.GENERATION.recordSince(generationStart);
+			generationStart = System.nanoTime();
+			startGenerationEvent();
+			
 			// Set the new generation
+			Instance[] previousGeneration = currentGeneration;
 			currentGeneration = newGeneration;
+			evaluatedScores = null;
 			
-			// Write the old generation to a file
-			GeneralMethods.writeToFile(generationToString(), GeneralMethods.GENERATION_DATA_TYPE, currentGenerationNumber, mapNumber);
+			// Write the new generation to a file, as changes to the previous one
+			persistence.writeGeneration(generationLog, currentGenerationNumber, currentGeneration, previousGeneration);
 
 			// Write the new generation number to the file
-			GeneralMethods.writeToFile(new String[][] {{Integer.toString(currentGenerationNumber), Boolean.toString(generationComplete)}}, GeneralMethods.GENERAL_TYPE, 0, mapNumber);
+			persistence.writeFile(new String[][] {{Integer.toString(currentGenerationNumber), Boolean.toString(generationComplete)}}, GeneralMethods.GENERAL_TYPE, 0, mapNumber);
+			
+			// Then the checkpoint a restart continues from, once the files it is checked against are queued
+			writeCheckpoint();
 
 
-			game.addToList(GameManager.GENERATION_LIST, Integer.toString(currentGenerationNumber));
-			game.setSelectedItem(GameManager.GENERATION_LIST, Integer.toString(currentGenerationNumber));
-			game.startTimer();
+			if (game != null) {
+				
+				game.addToList(GameManager.GENERATION_LIST, Integer.toString(currentGenerationNumber));
+				game.setSelectedItem(GameManager.GENERATION_LIST, Integer.toString(currentGenerationNumber));
+				game.startTimer();
+				
+			}
 
 		}
 		
@@ -350,16 +828,18 @@ public class LearningManager {
 
 		// Create one new instance and add it to the game
 		newGeneration[0] = new Instance(newMovements);
-		game.addObject(newGeneration[0]);
+		engine.addInstance(newGeneration[0]);
+		
+		SplittableRandom random = generationRandom(currentGenerationNumber);
 		
 		// Loop from second to final instances in generation
 		for (int i = 1; i < newGeneration.length; i++) {
 			
 			// Mutates the remainder of the generation.
-			newGeneration[i] = newGeneration[i - 1].mutation(MUTATION_PERCENT);
+			newGeneration[i] = newGeneration[i - 1].mutation(MUTATION_PERCENT, random.split());
 			
 			// Add it to the game
-			game.addObject(newGeneration[i]);
+			engine.addInstance(newGeneration[i]);
 			
 		}
 		
@@ -382,7 +862,7 @@ public class LearningManager {
 			// Resets the position
 			finalInstance = finalInstance.mutation(0);
 			currentGeneration[0] = finalInstance;
-			game.addObject(finalInstance);
+			engine.addInstance(finalInstance);
 
 
 		// Print an error if the input is greater than the generation
@@ -398,112 +878,37 @@ public class LearningManager {
 			// Set new generation number
 			currentGenerationNumber = newGen;
 			
-			currentGeneration = new Instance[POPULATION_COUNT];
-
-			// Get the data of the generation
-			String[][] generationData = GeneralMethods.readFile("final_files/maps/map" + mapNumber + "/character_data/generation" + newGen + ".txt");
-
-			// Looping through and setting each generation length
-			for (int i = 0; i < currentGeneration.length; i++) {
-
-				currentGeneration[i] = stringToInstance(generationData[i]);
-				game.addObject(currentGeneration[i]);
-
-			}
-
-		}
-
-	}
-	
-	// Returns the current generation represented as text to be written in a file
-	private String[][] generationToString() {
-		
-		/*
-		 * Creates the data file. Length the size of the current generation, and width
-		 * the amount of movements multiplied by the number of attributes
-		 */
-		String data[][] = new String[currentGeneration.length][currentGeneration[0].getMovements().length * 4];
-		
-		// Loop through the current generation
-		for (int i = 0; i < currentGeneration.length; i++) {
-			
-			data[i] = instanceToString(currentGeneration[i]);
+			FlightEvents.GenerationLoadEvent loadEvent = null;
 			
-		}
-		
-		// Return the string data
-		return data;
-		
-	}
-	
-	// Returns a string array representing the movements of an instance.
-	private String[] instanceToString(Instance inst) {
-		
-		String[] instanceRep = new String[MOVEMENT_NUMBER * 4];
-		
-		int z = 0;
-		
-		for (int j = 0; j < MOVEMENT_NUMBER; j++) {
-			
-			/*
-			 * Grab each value from the instance. Jump, then Left, 
-			 * then Right, then Length of the movement
-			 */
-			instanceRep[z] = Boolean.toString(inst.getMovements()[j].doesJump());
-			instanceRep[z+1] = Boolean.toString(inst.getMovements()[j].movesLeft());
-			instanceRep[z+2] = Boolean.toString(inst.getMovements()[j].movesRight());
-			instanceRep[z+3] = Integer.toString(inst.getMovements()[j].getLength());
+			if (FlightEvents.ENABLED) {
+				
+				loadEvent = new FlightEvents.GenerationLoadEvent();
+				loadEvent.begin();
+				
+			}
 			
-			z += 4;
+			// Get the generation, which has no scores until it is run again
+			currentGeneration = readGeneration(newGen);
+			evaluatedScores = null;
 			
-		}
-		
-		// Return the string representation
-		return instanceRep;
-		
-	}
-	
-	// Returns a new instance created from a text representation of its movements.
-	private Instance stringToInstance(String[] str) {
-
-		Instance newInstance = null;
-
-		Movement[] instanceMovements = new Movement[MOVEMENT_NUMBER];
-
-		try {
-
-			int z = 0;
-
-			for (int j = 0; j < MOVEMENT_NUMBER; j++) {
+			if (FlightEvents.ENABLED && loadEvent.shouldCommit()) {
+				
+				loadEvent.mapNumber = mapNumber;
+				loadEvent.generationNumber = newGen;
+				loadEvent.population = currentGeneration.length;
+				loadEvent.commit();
 				
-				// Gets all the information from the data and sets to the movements
-				boolean space = str[z].equals("true");
-				boolean left = str[z+1].equals("true");
-				boolean right = str[z+2].equals("true");
-				int length = Integer.parseInt(str[z+3]);
-
-				// Adds to the movements with the gathered data
-				instanceMovements[j] = new Movement(space, left, right, length);
-
-				z += 4;
-
 			}
 
-			// Adds the instance to the generation
-			newInstance = new Instance(instanceMovements);
+			// Looping through and adding each instance
+			for (int i = 0; i < currentGeneration.length; i++) {
 
-		// Number exception handling
-		} catch (NumberFormatException e) {
+				engine.addInstance(currentGeneration[i]);
 
-			System.out.println("Format or parsing error,\nIn game_navigator/LearningManager.");
-			e.printStackTrace();
+			}
 
 		}
-		
-		return newInstance;
 
 	}
 	
-	
-	
 }
@@ -18,8 +18,17 @@ public class Main {
 
 	public static void main(String[] args) {
 
-		// Starts the game
-		GameManager game = new GameManager();
+		// Starts the game on the event dispatch thread, which owns the window
+		SwingUtilities.invokeLater(new Runnable() {
+			
+			@Override
+			public void run() {
+				
+				GameManager game = new GameManager();
+				
+			}
+			
+		});
 		
 		
 	}
@@ -19,49 +19,52 @@ public class Map {
 	public static final int STARTING_X = 5;
 	public static final int STARTING_Y = 400;
 	
+	// Names of the types of objects in the map file, and their positions in the list
+	private static final String[] OBJECT_TYPES = {"floor", "obstacle", "finishzone"};
+	private static final int FLOOR = 0;
+	private static final int OBSTACLE = 1;
+	private static final int FINISH_ZONE = 2;
+	
 	// List of game objects
 	private ArrayList<GameObject> gameObjects = new ArrayList<GameObject>();
 	
-	// Reference to the game
-	private GameManager game;
-	
 	// Creates an already existing map
-	public Map(int accessNumber, GameManager g) {
-		
-		// Access to the game
-		game = g;
+	public Map(int accessNumber) {
 		
 		// Read file if the files are present
 		if (accessNumber != 0) {
 
 			String accessFile = "final_files/maps/map" + accessNumber + "/map.txt";
 
-			String[][] objects = GeneralMethods.readFile(accessFile);
-
 			// Number format catch
-			try {
+			try (TextRowReader input = new TextRowReader(accessFile)) {
 
-				// Loops through the objects and their attributes
-				for (int i = 0; i < objects.length; i++) {
+				int objectNumber = GeneralMethods.readRowCount(input);
+
+				// Loops through the objects, reading their attributes straight from the file
+				for (int i = 0; i < objectNumber; i++) {
 
 					// Get attributes
-					int x = Integer.parseInt(objects[i][0]);
-					int y = Integer.parseInt(objects[i][1]);
-					int width = Integer.parseInt(objects[i][2]);
-					int height = Integer.parseInt(objects[i][3]);
+					int x = input.nextInt();
+					int y = input.nextInt();
+					int width = input.nextInt();
+					int height = input.nextInt();
+					int type = input.nextKeyword(OBJECT_TYPES);
+
+					input.nextRow();
 
 					// Add the object depending on the type
-					if (objects[i][4].equals("floor")) {
+					if (type == FLOOR) {
 
 						gameObjects.add(new FloorBlock(x, y, width, height));
 
-					} else if (objects[i][4].equals("obstacle")) {
+					} else if (type == OBSTACLE) {
 
 						gameObjects.add(new Obstacle(x, y, width, height));
 
-					} else if (objects[i][4].equals("finishzone")) {
+					} else if (type == FINISH_ZONE) {
 
-						gameObjects.add(new FinishZone(x, y, width, height, game));
+						gameObjects.add(new FinishZone(x, y, width, height));
 
 					}
 
@@ -86,6 +89,16 @@ public class Map {
 
 	}
 
+	// Creates a map from objects already made, such as generated ones, adding the beginning platform
+	public Map(ArrayList<GameObject> objects) {
+		
+		gameObjects.addAll(objects);
+		
+		// Beginning platform
+		gameObjects.add(new FloorBlock(STARTING_X - 20, STARTING_Y + Character.CHARACTER_HEIGHT + 100, 100, 20));
+		
+	}
+
 	// Returns the list of objects
 	public ArrayList<GameObject> getObjects() {
 		
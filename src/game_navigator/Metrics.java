@@ -0,0 +1,83 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  Metrics
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: The timers and counters of the whole program, published as MBeans under
+	 * game_navigator so they can be watched with JConsole, VisualVM or any other JMX tool during long
+	 * runs. The phases of a tick are only timed on one tick in TICK_SAMPLE_INTERVAL, since timing them
+	 * for every character of every tick would cost about as much as the work itself.
+	 */
+
+package game_navigator;
+
+import java.lang.management.*;
+import javax.management.*;
+
+public class Metrics {
+
+	// Ticks between those whose phases are timed
+	public static final int TICK_SAMPLE_INTERVAL = 16;
+
+	// Whole ticks of the engine
+	public static final LatencyTimer TICK = new LatencyTimer();
+
+	// Phases of the sampled ticks: setting and making the movements, colliding, and scoring
+	public static final LatencyTimer TICK_MOVEMENT = new LatencyTimer();
+	public static final LatencyTimer TICK_COLLISION = new LatencyTimer();
+	public static final LatencyTimer TICK_SCORING = new LatencyTimer();
+
+	// Drawing a frame of the game
+	public static final LatencyTimer RENDER = new LatencyTimer();
+
+	// From the start of a generation to the start of the next
+	public static final LatencyTimer GENERATION = new LatencyTimer();
+
+	// From queueing a write to it being on the disk
+	public static final LatencyTimer PERSISTENCE = new LatencyTimer();
+
+	// Instances simulated for a whole generation
+	public static final EventCounter EVALUATIONS = new EventCounter();
+
+	// Objects tested for a collision with a character
+	public static final EventCounter COLLISIONS_TESTED = new EventCounter();
+
+	static {
+
+		register("Timer", "tick", TICK);
+		register("Timer", "tickMovement", TICK_MOVEMENT);
+		register("Timer", "tickCollision", TICK_COLLISION);
+		register("Timer", "tickScoring", TICK_SCORING);
+		register("Timer", "render", RENDER);
+		register("Timer", "generation", GENERATION);
+		register("Timer", "persistence", PERSISTENCE);
+		register("Counter", "evaluations", EVALUATIONS);
+		register("Counter", "collisionsTested", COLLISIONS_TESTED);
+
+	}
+
+	// Publishes an MBean, reporting but carrying on if it cannot be
+	private static void register(String type, String name, Object bean) {
+
+		try {
+
+			ObjectName objectName = new ObjectName("game_navigator:type=" + type + ",name=" + name);
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+			if (!server.isRegistered(objectName)) {
+
+				server.registerMBean(bean, objectName);
+
+			}
+
+		} catch (JMException | SecurityException e) {
+
+			System.out.println("Could not publish the " + name + " metric.\nIn game_navigator/Metrics.");
+			e.printStackTrace();
+
+		}
+
+	}
+
+}
@@ -0,0 +1,184 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  MovementSchedule
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: The movements of a generation compiled into the ticks they take effect. An instance
+	 * follows the last of its movements whose length is under the time passed, so its movement only ever
+	 * changes on the tick a later movement than the current one starts. The schedule lists those changes
+	 * by tick, and each tick only the instances whose movement changes on it are touched.
+	 */
+
+package game_navigator;
+
+public class MovementSchedule {
+
+	// The generation the schedule was made from
+	private Instance[] generation;
+
+	// Changes of every tick. The changes of tick t are from tickStart[t] (inclusive) to tickStart[t + 1]
+	private int[] tickStart;
+	private int[] changeInstance;
+	private int[] changeMovement;
+
+	// The next tick whose changes have not been made
+	private int nextTick = 1;
+
+	// Compiles the movements of a generation
+	public MovementSchedule(Instance[] generationSet) {
+
+		generation = generationSet;
+
+		int lastTick = SimulationEngine.FINAL_TICK - 1;
+		int movementNumber = 0;
+
+		for (Instance instance : generation) {
+
+			movementNumber = Math.max(movementNumber, instance.getMovements().length);
+
+		}
+
+		int[] ticks = new int[movementNumber];
+		int[] movements = new int[movementNumber];
+
+		// Counts the changes of every tick
+		tickStart = new int[lastTick + 2];
+
+		for (Instance instance : generation) {
+
+			int changes = compile(instance.getMovements(), ticks, movements);
+
+			for (int k = 0; k < changes; k++) {
+
+				if (ticks[k] <= lastTick) {
+
+					tickStart[ticks[k] + 1]++;
+
+				}
+
+			}
+
+		}
+
+		for (int t = 1; t < tickStart.length; t++) {
+
+			tickStart[t] += tickStart[t - 1];
+
+		}
+
+		// Places every change in the bucket of its tick, in the order of the instances
+		changeInstance = new int[tickStart[tickStart.length - 1]];
+		changeMovement = new int[changeInstance.length];
+
+		int[] filled = tickStart.clone();
+
+		for (int i = 0; i < generation.length; i++) {
+
+			int changes = compile(generation[i].getMovements(), ticks, movements);
+
+			for (int k = 0; k < changes; k++) {
+
+				if (ticks[k] <= lastTick) {
+
+					changeInstance[filled[ticks[k]]] = i;
+					changeMovement[filled[ticks[k]]] = movements[k];
+					filled[ticks[k]]++;
+
+				}
+
+			}
+
+		}
+
+	}
+
+	// Returns whether the schedule was made from the generation
+	public boolean isFor(Instance[] generationCheck) {
+
+		return generation == generationCheck;
+
+	}
+
+	/*
+	 * Sets the movement of every instance whose movement changes up to and including the tick. Going
+	 * back to an earlier tick starts the schedule over, as happens when a generation restarts.
+	 */
+	public void apply(int tick) {
+
+		if (tick < nextTick - 1) {
+
+			nextTick = 1;
+
+		}
+
+		int lastTick = Math.min(tick, tickStart.length - 2);
+
+		for (; nextTick <= lastTick; nextTick++) {
+
+			for (int c = tickStart[nextTick]; c < tickStart[nextTick + 1]; c++) {
+
+				Instance instance = generation[changeInstance[c]];
+
+				instance.setMovement(instance.getMovements()[changeMovement[c]]);
+
+			}
+
+		}
+
+		nextTick = Math.max(nextTick, tick + 1);
+
+	}
+
+	// Returns the first tick whose time is past the length, the tick a movement starts on
+	public static int startingTick(int length) {
+
+		return Math.max(1, Math.floorDiv(length, SimulationEngine.TICK_LENGTH) + 1);
+
+	}
+
+	/*
+	 * Writes the ticks on which a set of movements changes the movement followed, and the movement
+	 * followed from then on, in order of tick. Returns the number of changes. A movement is only a
+	 * change if every later movement starts after it.
+	 */
+	public static int compile(Movement[] movements, int[] ticks, int[] indices) {
+
+		int changes = 0;
+		int laterStart = Integer.MAX_VALUE;
+
+		// Finds the changes from the last movement back, which is from the last change to the first
+		for (int j = movements.length - 1; j >= 0; j--) {
+
+			int start = startingTick(movements[j].getLength());
+
+			if (start < laterStart) {
+
+				ticks[changes] = start;
+				indices[changes] = j;
+				changes++;
+
+				laterStart = start;
+
+			}
+
+		}
+
+		// Puts the changes in order of tick
+		for (int k = 0; k < changes / 2; k++) {
+
+			int swap = ticks[k];
+			ticks[k] = ticks[changes - 1 - k];
+			ticks[changes - 1 - k] = swap;
+
+			swap = indices[k];
+			indices[k] = indices[changes - 1 - k];
+			indices[changes - 1 - k] = swap;
+
+		}
+
+		return changes;
+
+	}
+
+}
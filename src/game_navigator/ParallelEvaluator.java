@@ -0,0 +1,112 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  ParallelEvaluator
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Simulates a population on every core at once. Instances never interact with each other,
+	 * only with the map, so the population is split into chunks that are stepped separately against the
+	 * shared PopulationStepper. Each character is simulated exactly as it would be alone, so the scores
+	 * are the same as a sequential run.
+	 */
+
+package game_navigator;
+
+import java.util.concurrent.*;
+
+public class ParallelEvaluator {
+
+	/*
+	 * Chunks are split on multiples of this size, so no two threads ever write to the same word of the
+	 * alive bitset in the PopulationStore.
+	 */
+	public static final int CHUNK_ALIGNMENT = 64;
+
+	// Number of chunks made per thread, so threads that finish early can steal work
+	public static final int CHUNKS_PER_THREAD = 4;
+
+	// The rules to simulate with and the threads that run them
+	private PopulationStepper stepper;
+	private ForkJoinPool pool;
+
+	// Creates an evaluator that uses every core
+	public ParallelEvaluator(PopulationStepper stepperSet) {
+
+		this(stepperSet, ForkJoinPool.commonPool());
+
+	}
+
+	// Creates an evaluator that runs in the given pool
+	public ParallelEvaluator(PopulationStepper stepperSet, ForkJoinPool poolSet) {
+
+		stepper = stepperSet;
+		pool = poolSet;
+
+	}
+
+	// Simulates a whole generation of the population and returns the scores
+	public int[] evaluate(PopulationStore population) {
+
+		// Size of the smallest chunk, rounded up to the alignment
+		int chunkSize = population.size() / (pool.getParallelism() * CHUNKS_PER_THREAD);
+		chunkSize = Math.max(CHUNK_ALIGNMENT, (chunkSize + CHUNK_ALIGNMENT - 1) / CHUNK_ALIGNMENT * CHUNK_ALIGNMENT);
+
+		pool.invoke(new EvaluationTask(population, 0, population.size(), chunkSize));
+		Metrics.EVALUATIONS.add(population.size());
+
+		int[] scores = new int[population.size()];
+
+		for (int i = 0; i < scores.length; i++) {
+
+			scores[i] = population.getScore(i);
+
+		}
+
+		return scores;
+
+	}
+
+	/*
+	 * Simulates the characters from (inclusive) to to (exclusive), splitting the range in half until
+	 * it is no bigger than a chunk.
+	 */
+	private class EvaluationTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private PopulationStore population;
+		private int from;
+		private int to;
+		private int chunkSize;
+
+		EvaluationTask(PopulationStore populationSet, int fromSet, int toSet, int chunkSizeSet) {
+
+			population = populationSet;
+			from = fromSet;
+			to = toSet;
+			chunkSize = chunkSizeSet;
+
+		}
+
+		@Override
+		protected void compute() {
+
+			if (to - from <= chunkSize) {
+
+				stepper.simulate(population, from, to);
+
+			} else {
+
+				// Splits in the middle, rounded up to a multiple of the alignment
+				int middle = from + ((to - from) / 2 + CHUNK_ALIGNMENT - 1) / CHUNK_ALIGNMENT * CHUNK_ALIGNMENT;
+
+				invokeAll(new EvaluationTask(population, from, middle, chunkSize),
+						new EvaluationTask(population, middle, to, chunkSize));
+
+			}
+
+		}
+
+	}
+
+}
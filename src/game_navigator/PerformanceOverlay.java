@@ -0,0 +1,161 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  PerformanceOverlay
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: A box drawn over the game showing how fast it is running: frames and ticks each
+	 * second, the mean and 99th percentile time of a tick, how many characters are alive, evaluations
+	 * each second and the memory in use. Everything is read from the metrics and the newest snapshot,
+	 * which the simulation never waits on, so showing it does not slow the simulation down. The numbers
+	 * are worked out again every SAMPLE_INTERVAL from what happened since the last time, so a drop in
+	 * speed shows straight away rather than being averaged away over the whole run.
+	 */
+
+package game_navigator;
+
+import java.awt.*;
+import java.util.*;
+
+public class PerformanceOverlay {
+
+	// Time between working out the numbers again
+	public static final long SAMPLE_INTERVAL_NANOS = 500000000L;
+
+	// Position and size of the box, below the countdown number
+	public static final int X = GameManager.SCREEN_WIDTH - 290;
+	public static final int Y = 120;
+	public static final int WIDTH = 270;
+	public static final int LINE_HEIGHT = 18;
+
+	private static final double NANOS_PER_MILLISECOND = 1e6;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	// Whether the overlay is drawn
+	private boolean shown;
+
+	// When the current sample started, and the frames drawn since
+	private long sampleStart;
+	private int frames;
+
+	// Totals at the start of the current sample
+	private long ticksAtStart;
+	private long tickNanosAtStart;
+	private long evaluationsAtStart;
+	private long[] tickCountsAtStart = new long[LatencyTimer.BUCKETS];
+
+	// Tick times counted in each bucket now, kept to avoid making a new array each sample
+	private long[] tickCounts = new long[LatencyTimer.BUCKETS];
+
+	// The lines shown, from the last sample
+	private String[] lines = {"Measuring..."};
+
+	private Font font = new Font(Font.MONOSPACED, Font.PLAIN, 14);
+	private Color background = new Color(0, 0, 0, 160);
+
+	// Shows the overlay if hidden, or hides it if shown
+	public void toggle() {
+
+		shown = !shown;
+
+		if (shown) {
+
+			lines = new String[] {"Measuring..."};
+			startSample(System.nanoTime());
+
+		}
+
+	}
+
+	public boolean isShown() {
+
+		return this.shown;
+
+	}
+
+	// Returns whether the numbers are due to be worked out again
+	public boolean isSampleDue() {
+
+		return System.nanoTime() - sampleStart >= SAMPLE_INTERVAL_NANOS;
+
+	}
+
+	// Draws the overlay for a frame, working out the numbers again if they are due
+	public void draw(Graphics g, WorldSnapshot snapshot) {
+
+		frames++;
+
+		if (isSampleDue()) {
+
+			sample(snapshot);
+
+		}
+
+		g.setColor(background);
+		g.fillRect(X, Y, WIDTH, lines.length * LINE_HEIGHT + 10);
+
+		g.setColor(Color.WHITE);
+		g.setFont(font);
+
+		for (int i = 0; i < lines.length; i++) {
+
+			g.drawString(lines[i], X + 8, Y + (i + 1) * LINE_HEIGHT);
+
+		}
+
+	}
+
+	// Works out the numbers from what happened since the start of the sample, and starts the next one
+	private void sample(WorldSnapshot snapshot) {
+
+		long now = System.nanoTime();
+		double seconds = (now - sampleStart) / 1e9;
+
+		long ticks = Metrics.TICK.getCount() - ticksAtStart;
+		long tickNanos = Metrics.TICK.getTotalNanos() - tickNanosAtStart;
+		long evaluations = Metrics.EVALUATIONS.getCount() - evaluationsAtStart;
+
+		// The tick times recorded during this sample only
+		Metrics.TICK.copyCounts(tickCounts);
+
+		for (int b = 0; b < tickCounts.length; b++) {
+
+			tickCounts[b] -= tickCountsAtStart[b];
+
+		}
+
+		double meanMillis = ticks == 0 ? 0 : tickNanos / NANOS_PER_MILLISECOND / ticks;
+		double p99Millis = LatencyTimer.getPercentile(tickCounts, 99) / NANOS_PER_MILLISECOND;
+
+		Runtime runtime = Runtime.getRuntime();
+		long usedMegabytes = (runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_MEGABYTE;
+		long maxMegabytes = runtime.maxMemory() / BYTES_PER_MEGABYTE;
+
+		lines = new String[] {
+				String.format(Locale.ROOT, "Frames/s       %.1f", frames / seconds),
+				String.format(Locale.ROOT, "Ticks/s        %.0f", ticks / seconds),
+				String.format(Locale.ROOT, "Tick mean      %.3f ms", meanMillis),
+				String.format(Locale.ROOT, "Tick p99       %.3f ms", p99Millis),
+				String.format(Locale.ROOT, "Alive / dead   %d / %d", snapshot.getAliveCount(), snapshot.getCount() - snapshot.getAliveCount()),
+				String.format(Locale.ROOT, "Evaluations/s  %.0f", evaluations / seconds),
+				String.format(Locale.ROOT, "Heap           %d / %d MB", usedMegabytes, maxMegabytes)
+		};
+
+		startSample(now);
+
+	}
+
+	// Starts a new sample from the totals now
+	private void startSample(long now) {
+
+		sampleStart = now;
+		frames = 0;
+
+		ticksAtStart = Metrics.TICK.getCount();
+		tickNanosAtStart = Metrics.TICK.getTotalNanos();
+		evaluationsAtStart = Metrics.EVALUATIONS.getCount();
+		Metrics.TICK.copyCounts(tickCountsAtStart);
+
+	}
+
+}
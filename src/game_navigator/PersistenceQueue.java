@@ -0,0 +1,455 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  PersistenceQueue
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Writes generations and files on a thread of its own so the simulation never waits on
+	 * the disk. Writes are done in the order they are queued. Generations queued one after another for
+	 * the same log are appended together, and a file or checkpoint queued again before it was written is
+	 * only written once with its newest contents. Generations, files and checkpoints that are still
+	 * waiting can be read back from the queue, so nothing has to wait for the writer to read them. When the queue is full whoever queues waits for room, and everything queued is
+	 * written before the program exits.
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class PersistenceQueue {
+
+	// Number of writes that can wait at once
+	public static final int CAPACITY = 256;
+
+	// The queue shared by the whole program
+	private static PersistenceQueue shared;
+
+	// Writes waiting for the writer thread
+	private ArrayBlockingQueue<Write> queue = new ArrayBlockingQueue<Write>(CAPACITY);
+
+	// Generations queued but not yet in their log, by log and generation number
+	private ConcurrentHashMap<GenerationLog, ConcurrentHashMap<Integer, ByteBuffer>> pending =
+			new ConcurrentHashMap<GenerationLog, ConcurrentHashMap<Integer, ByteBuffer>>();
+
+	// Newest write of each file and of each map's checkpoint queued but not yet finished
+	private ConcurrentHashMap<String, Write> pendingFiles = new ConcurrentHashMap<String, Write>();
+	private ConcurrentHashMap<Integer, Write> pendingCheckpoints = new ConcurrentHashMap<Integer, Write>();
+
+	// Number of writes queued and not yet finished
+	private int outstanding;
+
+	// Returns the queue shared by the whole program, starting it the first time
+	public static synchronized PersistenceQueue getShared() {
+
+		if (shared == null) {
+
+			shared = new PersistenceQueue();
+
+		}
+
+		return shared;
+
+	}
+
+	// Starts the writer thread, and writes whatever is left when the program exits
+	public PersistenceQueue() {
+
+		Thread writer = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				writeForever();
+
+			}
+
+		}, "Persistence writer");
+
+		writer.setDaemon(true);
+		writer.start();
+
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				flush();
+
+			}
+
+		}, "Persistence flush"));
+
+	}
+
+	/*
+	 * Queues a generation to be appended to a log, stored as changes to the previous generation if it is
+	 * given and that generation is queued for or already in the same log. Otherwise the whole generation
+	 * is stored, so it can always be read from the log alone. The generation is copied, so it can change
+	 * afterwards.
+	 */
+	public void writeGeneration(GenerationLog log, int generationNumber, Instance[] generation, Instance[] previous) {
+
+		ConcurrentHashMap<Integer, ByteBuffer> logPending = pending.get(log);
+
+		if (logPending == null) {
+
+			pending.putIfAbsent(log, new ConcurrentHashMap<Integer, ByteBuffer>());
+			logPending = pending.get(log);
+
+		}
+
+		// A queued generation is only removed once it is in the log, so checking the queue first misses neither
+		if (!logPending.containsKey(generationNumber - 1) && !log.contains(generationNumber - 1)) {
+
+			previous = null;
+
+		}
+
+		ByteBuffer payload = GenerationFile.encode(generation, previous, generationNumber);
+
+		logPending.put(generationNumber, payload);
+
+		enqueue(new Write(log, generationNumber, payload, null, 0, 0, 0));
+
+	}
+
+	// Queues a file to be written with GeneralMethods.writeToFile
+	public void writeFile(String[][] content, int type, int accessNumber, int mapNumber) {
+
+		Write write = new Write(null, 0, null, content, type, accessNumber, mapNumber);
+
+		pendingFiles.put(fileKey(type, accessNumber, mapNumber), write);
+
+		enqueue(write);
+
+	}
+
+	// Queues a checkpoint to be written over the checkpoint of its map. It is encoded now, so the generation can change afterwards
+	public void writeCheckpoint(Checkpoint checkpoint) {
+
+		Write write = new Write(null, 0, checkpoint.encode(), null, 0, 0, checkpoint.getMapNumber());
+
+		pendingCheckpoints.put(checkpoint.getMapNumber(), write);
+
+		enqueue(write);
+
+	}
+
+	// Queues the telemetry of a generation to be appended to the telemetry file of its map
+	public void writeTelemetry(int mapNumber, GenerationTelemetry telemetry) {
+
+		Write write = new Write(null, 0, telemetry.encode(), null, 0, 0, mapNumber);
+		write.telemetry = true;
+
+		enqueue(write);
+
+	}
+
+	// Reads a generation that is still queued, or from its log if it has been written
+	public Instance[] readGeneration(GenerationLog log, int generationNumber) {
+
+		ConcurrentHashMap<Integer, ByteBuffer> logPending = pending.get(log);
+		ByteBuffer payload = logPending == null ? null : logPending.get(generationNumber);
+
+		if (payload != null) {
+
+			try {
+
+				Instance[] previous = null;
+
+				// A generation stored as changes is made from the one before it
+				if (GenerationFile.needsPrevious(payload)) {
+
+					previous = readGeneration(log, generationNumber - 1);
+
+				}
+
+				return GenerationFile.decode(payload.duplicate(), previous);
+
+			} catch (IOException e) {
+
+				System.out.println("Could not read queued generation " + generationNumber + ".\nIn game_navigator/PersistenceQueue.");
+				e.printStackTrace();
+
+			}
+
+		}
+
+		return log.read(generationNumber);
+
+	}
+
+	// Returns the newest contents queued for a file written with GeneralMethods.writeToFile, or null if the file is up to date
+	public String[][] readFile(int type, int accessNumber, int mapNumber) {
+
+		Write write = pendingFiles.get(fileKey(type, accessNumber, mapNumber));
+
+		return write == null ? null : write.content;
+
+	}
+
+	// Reads the checkpoint of a map that is still queued, or from its file if it has been written
+	public Checkpoint readCheckpoint(int mapNumber) {
+
+		Write write = pendingCheckpoints.get(mapNumber);
+
+		if (write != null) {
+
+			return Checkpoint.decode(mapNumber, write.payload.duplicate());
+
+		}
+
+		return Checkpoint.read(mapNumber);
+
+	}
+
+	// Waits until everything queued so far has been written
+	public synchronized void flush() {
+
+		while (outstanding > 0) {
+
+			try {
+
+				wait();
+
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				return;
+
+			}
+
+		}
+
+	}
+
+	// Adds a write to the queue, waiting for room if it is full
+	private void enqueue(Write write) {
+
+		synchronized (this) {
+
+			outstanding++;
+
+		}
+
+		boolean queued = false;
+		boolean interrupted = false;
+
+		while (!queued) {
+
+			try {
+
+				queue.put(write);
+				queued = true;
+
+			} catch (InterruptedException e) {
+
+				interrupted = true;
+
+			}
+
+		}
+
+		// Keeps the interruption for the caller to see
+		if (interrupted) {
+
+			Thread.currentThread().interrupt();
+
+		}
+
+	}
+
+	// Writes batches of queued writes until the program ends
+	private void writeForever() {
+
+		ArrayList<Write> batch = new ArrayList<Write>();
+
+		while (true) {
+
+			try {
+
+				batch.add(queue.take());
+
+			} catch (InterruptedException e) {
+
+				continue;
+
+			}
+
+			queue.drainTo(batch);
+
+			try {
+
+				writeBatch(batch);
+
+			} catch (RuntimeException e) {
+
+				System.out.println("Could not finish writing.\nIn game_navigator/PersistenceQueue.");
+				e.printStackTrace();
+
+			}
+
+			// Each write took from when it was queued until its batch was written
+			for (Write write : batch) {
+
+				Metrics.PERSISTENCE.recordSince(write.queuedNanos);
+
+			}
+
+			synchronized (this) {
+
+				outstanding -= batch.size();
+				notifyAll();
+
+			}
+
+			batch.clear();
+
+		}
+
+	}
+
+	// Writes a batch in order, joining generations for the same log and skipping files written again later
+	private void writeBatch(ArrayList<Write> batch) {
+
+		int w = 0;
+
+		while (w < batch.size()) {
+
+			Write write = batch.get(w);
+
+			if (write.log != null) {
+
+				// Finds the generations that follow for the same log
+				int end = w + 1;
+
+				while (end < batch.size() && batch.get(end).log == write.log) {
+
+					end++;
+
+				}
+
+				int[] numbers = new int[end - w];
+				ByteBuffer[] payloads = new ByteBuffer[end - w];
+
+				for (int g = w; g < end; g++) {
+
+					numbers[g - w] = batch.get(g).generationNumber;
+					payloads[g - w] = batch.get(g).payload;
+
+				}
+
+				write.log.append(numbers, payloads);
+
+				// The generations can now be read from the log
+				for (int g = w; g < end; g++) {
+
+					pending.get(write.log).remove(numbers[g - w], payloads[g - w]);
+
+				}
+
+				w = end;
+
+			} else if (write.telemetry) {
+
+				// Every record is kept, so telemetry is never skipped for a later write
+				GenerationTelemetry.append(write.mapNumber, write.payload);
+
+				w++;
+
+			} else if (write.payload != null) {
+
+				// Only the newest checkpoint of a map in the batch matters
+				if (!writtenAgainLater(batch, w)) {
+
+					Checkpoint.write(write.mapNumber, write.payload);
+
+				}
+
+				// The file holds it now, unless a newer one was queued since
+				pendingCheckpoints.remove(write.mapNumber, write);
+
+				w++;
+
+			} else {
+
+				if (!writtenAgainLater(batch, w)) {
+
+					GeneralMethods.writeToFile(write.content, write.type, write.accessNumber, write.mapNumber);
+
+				}
+
+				pendingFiles.remove(fileKey(write.type, write.accessNumber, write.mapNumber), write);
+
+				w++;
+
+			}
+
+		}
+
+	}
+
+	// Returns the name a file written with GeneralMethods.writeToFile is known by in the queue
+	private static String fileKey(int type, int accessNumber, int mapNumber) {
+
+		return mapNumber + " " + type + " " + accessNumber;
+
+	}
+
+	// Returns whether the same file or checkpoint is written again later in the batch
+	private static boolean writtenAgainLater(ArrayList<Write> batch, int w) {
+
+		Write write = batch.get(w);
+
+		for (int later = w + 1; later < batch.size(); later++) {
+
+			Write other = batch.get(later);
+
+			if (other.log == null && other.telemetry == write.telemetry && (other.payload == null) == (write.payload == null) && other.type == write.type && other.accessNumber == write.accessNumber && other.mapNumber == write.mapNumber) {
+
+				return true;
+
+			}
+
+		}
+
+		return false;
+
+	}
+
+	// A generation to append to a log, a telemetry record, a checkpoint when there is only a payload, or else a file to write
+	private static class Write {
+
+		private GenerationLog log;
+		private int generationNumber;
+		private ByteBuffer payload;
+
+		private String[][] content;
+		private int type;
+		private int accessNumber;
+		private int mapNumber;
+
+		// When the write was queued
+		private long queuedNanos = System.nanoTime();
+
+		// Whether the payload is a telemetry record rather than a checkpoint
+		private boolean telemetry;
+
+		Write(GenerationLog logSet, int generationNumberSet, ByteBuffer payloadSet, String[][] contentSet, int typeSet, int accessNumberSet, int mapNumberSet) {
+
+			log = logSet;
+			generationNumber = generationNumberSet;
+			payload = payloadSet;
+			content = contentSet;
+			type = typeSet;
+			accessNumber = accessNumberSet;
+			mapNumber = mapNumberSet;
+
+		}
+
+	}
+
+}
@@ -0,0 +1,408 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  PopulationStepper
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Runs the rules of Character.movement, Character.collision and Character.velocitySet over
+	 * a PopulationStore, one linear sweep through the arrays per tick. The results are the same as running
+	 * the instances through the SimulationEngine. The stepper is never changed after it is created.
+	 */
+
+package game_navigator;
+
+import java.util.*;
+
+public class PopulationStepper {
+
+	// Grid of the floors and obstacles, and whether each one is an obstacle
+	private StaticGrid solidGrid;
+	private boolean[] obstacle;
+
+	// Dimensions of the finish zones
+	private int[] finishX;
+	private int[] finishY;
+	private int[] finishWidth;
+	private int[] finishHeight;
+
+	// Creates the stepper for the static objects of a map
+	public PopulationStepper(List<GameObject> staticObjects) {
+
+		ArrayList<GameObject> solids = new ArrayList<GameObject>();
+		ArrayList<GameObject> finishes = new ArrayList<GameObject>();
+
+		for (GameObject o : staticObjects) {
+
+			if (o instanceof FinishZone) {
+
+				finishes.add(o);
+
+			} else {
+
+				solids.add(o);
+
+			}
+
+		}
+
+		solidGrid = new StaticGrid(solids, staticObjects);
+		obstacle = new boolean[solids.size()];
+
+		for (int i = 0; i < solids.size(); i++) {
+
+			obstacle[i] = solids.get(i) instanceof Obstacle;
+
+		}
+
+		finishX = new int[finishes.size()];
+		finishY = new int[finishes.size()];
+		finishWidth = new int[finishes.size()];
+		finishHeight = new int[finishes.size()];
+
+		for (int i = 0; i < finishes.size(); i++) {
+
+			finishX[i] = finishes.get(i).getIntX();
+			finishY[i] = finishes.get(i).getIntY();
+			finishWidth[i] = finishes.get(i).getIntWidth();
+			finishHeight[i] = finishes.get(i).getIntHeight();
+
+		}
+
+	}
+
+	// Simulates characters from (inclusive) to to (exclusive) for a whole generation
+	public void simulate(PopulationStore p, int from, int to) {
+
+		StaticGrid.Query query = new StaticGrid.Query();
+		int tick = 1;
+
+		while (tick(p, tick, from, to, query)) {
+
+			tick++;
+
+		}
+
+	}
+
+	/*
+	 * Advances characters from (inclusive) to to (exclusive) by one tick, the same way
+	 * SimulationEngine.tick does. Returns false once the time given to the generation has passed or
+	 * the characters have settled for good.
+	 */
+	public boolean tick(PopulationStore p, int tick, int from, int to, StaticGrid.Query query) {
+
+		int time = tick * SimulationEngine.TICK_LENGTH;
+
+		// Sets the movements, killing every character once the time has passed
+		if (time > LearningManager.TIME_GIVEN) {
+
+			for (int i = from; i < to; i++) {
+
+				p.endGeneration(i);
+
+			}
+
+		} else {
+
+			setCommands(p, tick, from, to);
+
+		}
+
+		// Scores every character
+		for (int i = from; i < to; i++) {
+
+			p.score[i] = Instance.increasedScore(p.score[i], p.x[i], p.isAlive(i));
+
+		}
+
+		if (time > LearningManager.TIME_GIVEN) {
+
+			return false;
+
+		}
+
+		// Finish zones find the characters touching them before anything moves
+		for (int f = 0; f < finishX.length; f++) {
+
+			for (int i = from; i < to; i++) {
+
+				if (p.finishTick[i] == 0 && overlaps(p.x[i], p.y[i], finishX[f], finishY[f], finishWidth[f], finishHeight[f])) {
+
+					p.finishTick[i] = tick;
+					p.finishZone[i] = f;
+
+				}
+
+			}
+
+		}
+
+		// The characters have settled if none of them changes and none of them ever will
+		boolean settled = true;
+		int lastMovement = p.getMovementNumber() - 1;
+
+		// Objects tested for a collision, counted once for the whole tick
+		long tested = 0;
+
+		for (int i = from; i < to; i++) {
+
+			int oldX = p.x[i];
+			int oldY = p.y[i];
+			int oldPreviousX = p.previousX[i];
+			int oldPreviousY = p.previousY[i];
+			int oldVelocityX = p.velocityX[i];
+			int oldVelocityY = p.velocityY[i];
+			byte oldCollisions = p.collisions[i];
+			boolean wasAlive = p.isAlive(i);
+
+			movement(p, i);
+
+			p.collisions[i] = 0;
+
+			tested += setCollisions(p, i, query);
+			velocitySet(p, i);
+
+			// A living character can still change when its next movement starts
+			if (settled && (oldX != p.x[i] || oldY != p.y[i] || oldPreviousX != p.previousX[i] || oldPreviousY != p.previousY[i]
+					|| oldVelocityX != p.velocityX[i] || oldVelocityY != p.velocityY[i] || oldCollisions != p.collisions[i]
+					|| wasAlive != p.isAlive(i) || (wasAlive && p.movementLengths[i * (lastMovement + 1) + lastMovement] >= time))) {
+
+				settled = false;
+
+			}
+
+		}
+
+		Metrics.COLLISIONS_TESTED.add(tested);
+
+		// Every remaining tick would be the same as this one, so they are scored at once
+		if (settled) {
+
+			int remaining = SimulationEngine.FINAL_TICK - tick;
+
+			for (int i = from; i < to; i++) {
+
+				p.score[i] = Instance.increasedScore(p.score[i], p.x[i], p.isAlive(i), remaining - 1);
+				p.score[i] = Instance.increasedScore(p.score[i], p.x[i], false);
+				p.endGeneration(i);
+
+			}
+
+			return false;
+
+		}
+
+		return true;
+
+	}
+
+	// Sets the movement each character follows, making the changes of its schedule up to the tick
+	private void setCommands(PopulationStore p, int tick, int from, int to) {
+
+		int movementNumber = p.getMovementNumber();
+
+		for (int i = from; i < to; i++) {
+
+			while (p.nextChange[i] < p.changeCount[i] && p.changeTicks[i * movementNumber + p.nextChange[i]] <= tick) {
+
+				p.commands[i] = p.changeFlags[i * movementNumber + p.nextChange[i]];
+				p.nextChange[i]++;
+
+			}
+
+		}
+
+	}
+
+	// Moves a character, the same as Character.movement
+	private void movement(PopulationStore p, int i) {
+
+		if (p.isAlive(i)) {
+
+			byte command = p.commands[i];
+
+			// Sets velocity based on the given commands.
+			if ((command & PopulationStore.MOVES_RIGHT) != 0) {
+
+				p.velocityX[i] = Character.MOVE_SPEED;
+
+			}
+
+			if ((command & PopulationStore.MOVES_LEFT) != 0) {
+
+				p.velocityX[i] = -Character.MOVE_SPEED;
+
+			}
+
+			if ((command & PopulationStore.MOVES_LEFT) != 0 && (command & PopulationStore.MOVES_RIGHT) != 0) {
+
+				p.velocityX[i] = 0;
+
+			}
+
+			// Jump if on the ground
+			if ((command & PopulationStore.MOVES_JUMP) != 0 && (p.collisions[i] & PopulationStore.COLLIDES_BOTTOM) != 0) {
+
+				p.velocityY[i] = Character.JUMP_SPEED;
+
+			}
+
+			// Gravity is the only acceleration a character ever has
+			p.velocityY[i] += Character.GRAVITY;
+
+			p.previousX[i] = p.x[i];
+			p.previousY[i] = p.y[i];
+
+			p.x[i] -= p.velocityX[i];
+			p.y[i] -= p.velocityY[i];
+
+			// Kill a character falling off the map
+			if (p.y[i] > GameManager.SCREEN_HEIGHT) {
+
+				p.kill(i);
+
+			}
+
+		} else {
+
+			p.velocityX[i] = 0;
+			p.velocityY[i] = 0;
+
+		}
+
+	}
+
+	/*
+	 * Collides a character with the floors and obstacles around it, the same as Character.collision.
+	 * When pushed out of a floor the grid is searched again from the new location. Returns the number
+	 * of objects tested.
+	 */
+	private int setCollisions(PopulationStore p, int i, StaticGrid.Query query) {
+
+		int width = Character.CHARACTER_WIDTH;
+		int height = Character.CHARACTER_HEIGHT;
+
+		int found = solidGrid.query(p.x[i], p.y[i], width, height, -1, query);
+		int k = 0;
+		int tested = 0;
+
+		while (k < found) {
+
+			int index = query.get(k);
+			tested++;
+
+			if (solidGrid.intersects(index, p.x[i], p.y[i], width, height)) {
+
+				// Stop if obstacle hit
+				if (obstacle[index]) {
+
+					p.kill(i);
+
+				} else {
+
+					int ox = solidGrid.getX(index);
+					int oy = solidGrid.getY(index);
+					int ow = solidGrid.getWidth(index);
+					int oh = solidGrid.getHeight(index);
+
+					int collision = SimulationEngine.collisionType(p.x[i], p.y[i], width, height, p.previousX[i], p.previousY[i],
+							width, height, ox, oy, ow, oh);
+
+					int oldX = p.x[i];
+					int oldY = p.y[i];
+
+					// Adds the collision and moves out of the object
+					if (collision == GameManager.TOP_COLLISION) {
+
+						p.collisions[i] |= PopulationStore.COLLIDES_TOP;
+						p.y[i] = oy + oh;
+
+					} else if (collision == GameManager.BOTTOM_COLLISION) {
+
+						p.collisions[i] |= PopulationStore.COLLIDES_BOTTOM;
+						p.y[i] = oy - height;
+
+					} else if (collision == GameManager.LEFT_COLLISION) {
+
+						p.collisions[i] |= PopulationStore.COLLIDES_LEFT;
+						p.x[i] = ox + ow;
+
+					} else if (collision == GameManager.RIGHT_COLLISION) {
+
+						p.collisions[i] |= PopulationStore.COLLIDES_RIGHT;
+						p.x[i] = ox - width;
+
+					}
+
+					// If pushed out of the object, find the remaining objects near the new location
+					if (p.x[i] != oldX || p.y[i] != oldY) {
+
+						found = solidGrid.query(p.x[i], p.y[i], width, height, index, query);
+						k = 0;
+						continue;
+
+					}
+
+				}
+
+			}
+
+			k++;
+
+		}
+
+		return tested;
+
+	}
+
+	// Adjusts the velocity based on the collision, the same as Character.velocitySet
+	private void velocitySet(PopulationStore p, int i) {
+
+		byte collisions = p.collisions[i];
+
+		// The velocity of the previous frame is never changed from zero, so a top collision stops the character
+		if ((collisions & PopulationStore.COLLIDES_TOP) != 0) {
+
+			p.velocityY[i] = 0;
+
+		}
+
+		// Stop the character if they are colliding from either the left or right
+		if ((collisions & (PopulationStore.COLLIDES_LEFT | PopulationStore.COLLIDES_RIGHT)) != 0) {
+
+			p.velocityX[i] = 0;
+
+			// Kill if crushed by left and right
+			if ((collisions & PopulationStore.COLLIDES_LEFT) != 0 && (collisions & PopulationStore.COLLIDES_RIGHT) != 0) {
+
+				p.kill(i);
+
+			}
+
+		}
+
+		// Stop vertical movement if they collide from the bottom
+		if ((collisions & PopulationStore.COLLIDES_BOTTOM) != 0) {
+
+			p.velocityY[i] = 0;
+
+			// Kill if crushed from top and bottom
+			if ((collisions & PopulationStore.COLLIDES_TOP) != 0) {
+
+				p.kill(i);
+
+			}
+
+		}
+
+	}
+
+	// Returns whether a character at the location overlaps the rectangle
+	private static boolean overlaps(int x, int y, int ox, int oy, int ow, int oh) {
+
+		return ow > 0 && oh > 0 && ox < x + Character.CHARACTER_WIDTH && x < ox + ow
+				&& oy < y + Character.CHARACTER_HEIGHT && y < oy + oh;
+
+	}
+
+}
@@ -0,0 +1,287 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  PopulationStore
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Holds the state of a whole population in parallel arrays instead of one Instance object
+	 * per character. Entry i of every array belongs to character i, so the PopulationStepper can sweep
+	 * through the population in order. Each character takes about 50 bytes plus 10 bytes per movement,
+	 * compared to several hundred bytes for an Instance with its rectangles and movements.
+	 */
+
+package game_navigator;
+
+public class PopulationStore {
+
+	// Bits of the collision flags
+	public static final byte COLLIDES_TOP = 1;
+	public static final byte COLLIDES_BOTTOM = 2;
+	public static final byte COLLIDES_LEFT = 4;
+	public static final byte COLLIDES_RIGHT = 8;
+
+	// Bits of the movement flags
+	public static final byte MOVES_JUMP = 1;
+	public static final byte MOVES_LEFT = 2;
+	public static final byte MOVES_RIGHT = 4;
+
+	// Number of characters and number of movements each one has
+	private int size;
+	private int movementNumber;
+
+	// Position, previous position and velocity of every character
+	int[] x;
+	int[] y;
+	int[] previousX;
+	int[] previousY;
+	int[] velocityX;
+	int[] velocityY;
+
+	// Collision flags of every character and the movement it is currently following
+	byte[] collisions;
+	byte[] commands;
+
+	// Scores of every character
+	int[] score;
+
+	// One bit per character for whether it is alive, and for whether it was still alive when the generation ended
+	long[] alive;
+	long[] aliveAtEnd;
+
+	// The tick each character first touched a finish zone (0 if never), and the first zone it touched
+	int[] finishTick;
+	int[] finishZone;
+
+	// Movements of every character. Movement j of character i is at i * movementNumber + j
+	int[] movementLengths;
+	byte[] movementFlags;
+
+	/*
+	 * Ticks on which the movement of every character changes and the movement flags from then on, made
+	 * by MovementSchedule.compile. Change k of character i is at i * movementNumber + k.
+	 */
+	int[] changeTicks;
+	byte[] changeFlags;
+	int[] changeCount;
+
+	// The next change of every character that has not been made
+	int[] nextChange;
+
+	// Creates an empty population
+	public PopulationStore(int sizeSet, int movementNumberSet) {
+
+		size = sizeSet;
+		movementNumber = movementNumberSet;
+
+		x = new int[size];
+		y = new int[size];
+		previousX = new int[size];
+		previousY = new int[size];
+		velocityX = new int[size];
+		velocityY = new int[size];
+
+		collisions = new byte[size];
+		commands = new byte[size];
+		score = new int[size];
+
+		alive = new long[(size + 63) / 64];
+		aliveAtEnd = new long[alive.length];
+		finishTick = new int[size];
+		finishZone = new int[size];
+
+		movementLengths = new int[size * movementNumber];
+		movementFlags = new byte[size * movementNumber];
+
+		changeTicks = new int[size * movementNumber];
+		changeFlags = new byte[size * movementNumber];
+		changeCount = new int[size];
+		nextChange = new int[size];
+
+		reset();
+
+	}
+
+	// Creates a population from the movements of a generation
+	public static PopulationStore fromInstances(Instance[] generation) {
+
+		PopulationStore population = new PopulationStore(generation.length, generation[0].getMovements().length);
+
+		for (int i = 0; i < generation.length; i++) {
+
+			population.setMovements(i, generation[i].getMovements());
+
+		}
+
+		return population;
+
+	}
+
+	// Places every character at the start, alive and with no score
+	public void reset() {
+
+		for (int i = 0; i < size; i++) {
+
+			x[i] = Map.STARTING_X;
+			y[i] = Map.STARTING_Y;
+			previousX[i] = Map.STARTING_X;
+			previousY[i] = Map.STARTING_Y;
+			velocityX[i] = 0;
+			velocityY[i] = 0;
+			collisions[i] = 0;
+			commands[i] = 0;
+			score[i] = 0;
+			finishTick[i] = 0;
+			finishZone[i] = 0;
+			nextChange[i] = 0;
+
+		}
+
+		for (int i = 0; i < alive.length; i++) {
+
+			alive[i] = -1L;
+			aliveAtEnd[i] = 0;
+
+		}
+
+	}
+
+	// Sets the movements of a character
+	public void setMovements(int i, Movement[] movements) {
+
+		for (int j = 0; j < movementNumber; j++) {
+
+			byte flags = 0;
+
+			if (movements[j].doesJump()) {
+
+				flags |= MOVES_JUMP;
+
+			}
+
+			if (movements[j].movesLeft()) {
+
+				flags |= MOVES_LEFT;
+
+			}
+
+			if (movements[j].movesRight()) {
+
+				flags |= MOVES_RIGHT;
+
+			}
+
+			movementLengths[i * movementNumber + j] = movements[j].getLength();
+			movementFlags[i * movementNumber + j] = flags;
+
+		}
+
+		// Compiles when the movement changes
+		int[] ticks = new int[movementNumber];
+		int[] indices = new int[movementNumber];
+
+		changeCount[i] = MovementSchedule.compile(movements, ticks, indices);
+
+		for (int k = 0; k < changeCount[i]; k++) {
+
+			changeTicks[i * movementNumber + k] = ticks[k];
+			changeFlags[i * movementNumber + k] = movementFlags[i * movementNumber + indices[k]];
+
+		}
+
+	}
+
+	// Returns the number of characters
+	public int size() {
+
+		return this.size;
+
+	}
+
+	// Returns the number of movements each character has
+	public int getMovementNumber() {
+
+		return this.movementNumber;
+
+	}
+
+	// Returns whether a character is alive
+	public boolean isAlive(int i) {
+
+		return (alive[i >>> 6] & (1L << i)) != 0;
+
+	}
+
+	// Stops a character
+	public void kill(int i) {
+
+		alive[i >>> 6] &= ~(1L << i);
+
+	}
+
+	// Stops a character as the generation ends, remembering whether it lasted until then
+	public void endGeneration(int i) {
+
+		aliveAtEnd[i >>> 6] |= alive[i >>> 6] & (1L << i);
+		kill(i);
+
+	}
+
+	// Returns whether a character was still alive when the generation ended
+	public boolean isAliveAtEnd(int i) {
+
+		return (aliveAtEnd[i >>> 6] & (1L << i)) != 0;
+
+	}
+
+	// Returns the score of a character
+	public int getScore(int i) {
+
+		return score[i];
+
+	}
+
+	// Returns the x coordinate of a character
+	public int getX(int i) {
+
+		return x[i];
+
+	}
+
+	// Returns the y coordinate of a character
+	public int getY(int i) {
+
+		return y[i];
+
+	}
+
+	// Returns whether a character has touched a finish zone
+	public boolean hasReachedFinish(int i) {
+
+		return finishTick[i] != 0;
+
+	}
+
+	/*
+	 * Returns the character that the engine would have reported first as reaching the finish, or -1 if
+	 * none did. That is the earliest tick, then the first finish zone, then the first character.
+	 */
+	public int getFirstFinisher() {
+
+		int first = -1;
+
+		for (int i = 0; i < size; i++) {
+
+			if (finishTick[i] != 0 && (first == -1 || finishTick[i] < finishTick[first]
+					|| (finishTick[i] == finishTick[first] && finishZone[i] < finishZone[first]))) {
+
+				first = i;
+
+			}
+
+		}
+
+		return first;
+
+	}
+
+}
@@ -0,0 +1,658 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  SimulationEngine
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Runs the physics of the game as a fixed timestep loop without any graphics. Each tick
+	 * applies the movements of the generation, scores it and then moves and collides every instance against
+	 * the static objects of the map. The GameManager timer is one consumer of this engine, the
+	 * HeadlessTrainer is another.
+	 */
+
+package game_navigator;
+
+import java.util.*;
+
+public class SimulationEngine {
+
+	// Number of milliseconds of game time that pass every tick
+	public static final int TICK_LENGTH = 13;
+
+	// The tick in which the time given to a generation has passed
+	public static final int FINAL_TICK = LearningManager.TIME_GIVEN / TICK_LENGTH + 1;
+
+	// Number of values saved for each instance to tell whether a tick changed it
+	private static final int STATE_SIZE = 8;
+
+	// Phases of a tick timed for the metrics
+	private static final int MOVEMENT_PHASE = 0;
+	private static final int COLLISION_PHASE = 1;
+	private static final int SCORING_PHASE = 2;
+
+	// Every object in the game, the static objects followed by the instances
+	private ArrayList<GameObject> gameObjects;
+
+	// The objects of the map, which never move
+	private List<GameObject> staticObjects;
+
+	// The finish zones of the map, which only need to be tested against instances
+	private FinishZone[] finishZones;
+
+	// The instances, the only objects that move
+	private ArrayList<Instance> instances;
+
+	// Grid of the solid static objects and the instances
+	private SpatialHash spatialHash;
+
+	// Milliseconds of game time that have passed in this generation
+	private int timePassed;
+
+	// The first instance to reach a finish zone during the last tick, null if none did
+	private Instance finishingInstance;
+
+	// State of every instance before the current tick
+	private int[] instanceStates = new int[0];
+
+	// Number of ticks run, whether the phases of this one are timed, and the time of each phase
+	private long tickNumber;
+	private boolean sampled;
+	private long[] phaseNanos = new long[3];
+
+	// Objects tested for a collision this tick
+	private long collisionsTested;
+
+	// Flight recorder event of the current tick, made only for sampled ticks when the events are on
+	private FlightEvents.TickEvent tickEvent;
+
+	// Creates the engine with the objects of the map
+	public SimulationEngine(Map map) {
+
+		staticObjects = Collections.unmodifiableList(new ArrayList<GameObject>(map.getObjects()));
+		gameObjects = new ArrayList<GameObject>(staticObjects);
+		instances = new ArrayList<Instance>();
+		timePassed = 0;
+
+		// Splits the static objects into the solid ones and the finish zones
+		ArrayList<GameObject> solids = new ArrayList<GameObject>();
+		ArrayList<FinishZone> finishes = new ArrayList<FinishZone>();
+
+		for (GameObject o : staticObjects) {
+
+			if (o instanceof FinishZone) {
+
+				finishes.add((FinishZone) o);
+
+			} else {
+
+				solids.add(o);
+
+			}
+
+		}
+
+		finishZones = finishes.toArray(new FinishZone[finishes.size()]);
+		spatialHash = new SpatialHash(solids, staticObjects);
+
+	}
+
+	// Returns the list of objects in the game
+	public ArrayList<GameObject> getObjects() {
+
+		return this.gameObjects;
+
+	}
+
+	// Returns the objects of the map, which never change
+	public List<GameObject> getStaticObjects() {
+
+		return this.staticObjects;
+
+	}
+
+	// Returns the instances in the game
+	public ArrayList<Instance> getInstances() {
+
+		return this.instances;
+
+	}
+
+	// Adds a new instance to the game
+	public void addInstance(Instance r) {
+
+		gameObjects.add(r);
+		instances.add(r);
+		spatialHash.addDynamic(r);
+
+	}
+
+	// Removes an instance from the game
+	public void removeInstance(Instance r) {
+
+		// Removes by reference, as instances at the same place are equal rectangles
+		removeReference(gameObjects, r);
+		removeReference(instances, r);
+		spatialHash.removeDynamic(r);
+
+	}
+
+	/*
+	 * Removes many instances from the game at once, going through each list only once rather than once
+	 * for each instance removed.
+	 */
+	public void removeInstances(Instance[] removed) {
+
+		// Removes by reference, as instances at the same place are equal rectangles
+		Set<GameObject> removing = Collections.newSetFromMap(new IdentityHashMap<GameObject, Boolean>());
+
+		for (Instance r : removed) {
+
+			removing.add(r);
+			spatialHash.removeDynamic(r);
+
+		}
+
+		removeReferences(gameObjects, removing);
+		removeReferences(instances, removing);
+
+	}
+
+	// Removes every object of a set from the list, keeping the order of the rest
+	private static void removeReferences(ArrayList<? extends GameObject> list, Set<GameObject> removing) {
+
+		int kept = 0;
+
+		for (int i = 0; i < list.size(); i++) {
+
+			if (!removing.contains(list.get(i))) {
+
+				Collections.swap(list, i, kept);
+				kept++;
+
+			}
+
+		}
+
+		list.subList(kept, list.size()).clear();
+
+	}
+
+	// Removes the object from the list if it is present
+	private static void removeReference(ArrayList<? extends GameObject> list, GameObject r) {
+
+		for (int i = 0; i < list.size(); i++) {
+
+			if (list.get(i) == r) {
+
+				list.remove(i);
+				break;
+
+			}
+
+		}
+
+	}
+
+	// Returns the milliseconds of game time passed in this generation
+	public int getTimePassed() {
+
+		return this.timePassed;
+
+	}
+
+	// Returns the milliseconds of game time remaining in this generation
+	public int getTimeRemaining() {
+
+		return LearningManager.TIME_GIVEN - this.timePassed;
+
+	}
+
+	// Resets the time back to the start of a generation
+	public void resetTime() {
+
+		timePassed = 0;
+
+	}
+
+	// Returns the first instance that reached the finish during the last tick
+	public Instance getFinishingInstance() {
+
+		return this.finishingInstance;
+
+	}
+
+	/*
+	 * Advances the game by one tick. Returns true once the time given to the generation has passed, or
+	 * once every instance has settled for good, in which case the caller should create the next generation.
+	 */
+	public boolean tick(LearningManager learning) {
+
+		long tickStart = startTick();
+
+		finishingInstance = null;
+
+		// Adds to the time passed.
+		timePassed += TICK_LENGTH;
+
+		// Set the movement and scores of each instance every tick
+		learning.setMovements(timePassed);
+		long lapStart = lap(tickStart, MOVEMENT_PHASE);
+
+		learning.setAllScores();
+		lapStart = lap(lapStart, SCORING_PHASE);
+
+		return endTick(tickStart, step(lapStart));
+
+	}
+
+	/*
+	 * Advances the game by one tick with the movements of a schedule, for replaying instances that are
+	 * not part of a learning manager's generation. Scores are not kept.
+	 */
+	public boolean tick(MovementSchedule schedule) {
+
+		long tickStart = startTick();
+
+		finishingInstance = null;
+
+		timePassed += TICK_LENGTH;
+
+		// Kill after the time has passed, as the learning manager does
+		if (timePassed > LearningManager.TIME_GIVEN) {
+
+			for (Instance c : instances) {
+
+				c.endGeneration();
+
+			}
+
+		} else {
+
+			schedule.apply(timePassed / TICK_LENGTH);
+
+		}
+
+		return endTick(tickStart, step(lap(tickStart, MOVEMENT_PHASE)));
+
+	}
+
+	// Starts timing a tick, deciding whether its phases are timed too
+	private long startTick() {
+
+		sampled = ++tickNumber % Metrics.TICK_SAMPLE_INTERVAL == 0;
+
+		if (FlightEvents.ENABLED && sampled) {
+
+			tickEvent = new FlightEvents.TickEvent();
+			tickEvent.begin();
+
+		}
+
+		return System.nanoTime();
+
+	}
+
+	// Adds the time since the start of a lap to a phase if this tick is sampled, returning the time now
+	private long lap(long lapStart, int phase) {
+
+		if (!sampled) {
+
+			return 0;
+
+		}
+
+		long now = System.nanoTime();
+		phaseNanos[phase] += now - lapStart;
+
+		return now;
+
+	}
+
+	// Records the time of the tick and its phases, passing on whether the generation is over
+	private boolean endTick(long tickStart, boolean generationOver) {
+
+		Metrics.TICK.recordSince(tickStart);
+		Metrics.COLLISIONS_TESTED.add(collisionsTested);
+		collisionsTested = 0;
+
+		if (generationOver) {
+
+			Metrics.EVALUATIONS.add(instances.size());
+
+		}
+
+		if (sampled) {
+
+			Metrics.TICK_MOVEMENT.record(phaseNanos[MOVEMENT_PHASE]);
+			Metrics.TICK_COLLISION.record(phaseNanos[COLLISION_PHASE]);
+			Metrics.TICK_SCORING.record(phaseNanos[SCORING_PHASE]);
+
+			if (FlightEvents.ENABLED) {
+
+				commitTickEvent();
+
+			}
+
+			Arrays.fill(phaseNanos, 0);
+
+		}
+
+		return generationOver;
+
+	}
+
+	// Commits the flight recorder event of a sampled tick with the time of its phases
+	private void commitTickEvent() {
+
+		tickEvent.end();
+
+		if (tickEvent.shouldCommit()) {
+
+			tickEvent.instances = instances.size();
+			tickEvent.movementNanos = phaseNanos[MOVEMENT_PHASE];
+			tickEvent.collisionNanos = phaseNanos[COLLISION_PHASE];
+			tickEvent.scoringNanos = phaseNanos[SCORING_PHASE];
+			tickEvent.commit();
+
+		}
+
+		tickEvent = null;
+
+	}
+
+	// Moves every instance once their movements are set, returning true if the generation is over
+	private boolean step(long lapStart) {
+
+		// The generation is over once the full time has passed
+		if (timePassed > LearningManager.TIME_GIVEN) {
+
+			timePassed = 0;
+
+			return true;
+
+		}
+
+		// Finish zones find the instances touching them before anything moves
+		for (FinishZone f : finishZones) {
+
+			setFinishCollisions(f);
+
+		}
+
+		lapStart = lap(lapStart, COLLISION_PHASE);
+
+		// The generation has settled if no instance changes and none of them ever will
+		boolean settled = true;
+
+		if (instanceStates.length < instances.size() * STATE_SIZE) {
+
+			instanceStates = new int[instances.size() * STATE_SIZE];
+
+		}
+
+		// Static objects never move, so only the instances are stepped
+		for (int i = 0; i < instances.size(); i++) {
+
+			Instance c = instances.get(i);
+
+			saveState(c, i * STATE_SIZE);
+
+			// Moves the instance
+			c.movement();
+			lapStart = lap(lapStart, MOVEMENT_PHASE);
+
+			// Clears existing collisions
+			c.clearCollisions();
+
+			// Sets the new collision objects
+			setStaticCollisions(c);
+			lapStart = lap(lapStart, COLLISION_PHASE);
+
+			// Sets the velocity for the following movement
+			c.velocitySet();
+			lapStart = lap(lapStart, MOVEMENT_PHASE);
+
+			// Moves the instance to its new cells
+			spatialHash.updateDynamic(c);
+			lapStart = lap(lapStart, COLLISION_PHASE);
+
+			// A living instance can still change when its next movement starts
+			if (!sameState(c, i * STATE_SIZE) || (c.isAlive() && !c.lastMovementStarted(timePassed))) {
+
+				settled = false;
+
+			}
+
+		}
+
+		/*
+		 * Every remaining tick would be the same as this one, so the generation ends now and the
+		 * remaining ticks are scored at once
+		 */
+		if (settled) {
+
+			for (Instance c : instances) {
+
+				c.scoreRemaining(FINAL_TICK - timePassed / TICK_LENGTH);
+
+			}
+
+			lap(lapStart, SCORING_PHASE);
+
+			timePassed = 0;
+
+			return true;
+
+		}
+
+		return false;
+
+	}
+
+	// Saves the state of an instance before it is stepped
+	private void saveState(Instance c, int start) {
+
+		instanceStates[start] = c.getIntX();
+		instanceStates[start + 1] = c.getIntY();
+		instanceStates[start + 2] = c.getPreviousFrame().getIntX();
+		instanceStates[start + 3] = c.getPreviousFrame().getIntY();
+		instanceStates[start + 4] = c.getXVelocity();
+		instanceStates[start + 5] = c.getYVelocity();
+		instanceStates[start + 6] = collisionFlags(c);
+		instanceStates[start + 7] = c.isAlive() ? 1 : 0;
+
+	}
+
+	// Returns whether an instance is in the same state as it was saved in
+	private boolean sameState(Instance c, int start) {
+
+		return instanceStates[start] == c.getIntX()
+				&& instanceStates[start + 1] == c.getIntY()
+				&& instanceStates[start + 2] == c.getPreviousFrame().getIntX()
+				&& instanceStates[start + 3] == c.getPreviousFrame().getIntY()
+				&& instanceStates[start + 4] == c.getXVelocity()
+				&& instanceStates[start + 5] == c.getYVelocity()
+				&& instanceStates[start + 6] == collisionFlags(c)
+				&& instanceStates[start + 7] == (c.isAlive() ? 1 : 0);
+
+	}
+
+	// Returns the collisions of an object as bits
+	private static int collisionFlags(GameObject c) {
+
+		return (c.collidesTop() ? PopulationStore.COLLIDES_TOP : 0) | (c.collidesBottom() ? PopulationStore.COLLIDES_BOTTOM : 0)
+				| (c.collidesLeft() ? PopulationStore.COLLIDES_LEFT : 0) | (c.collidesRight() ? PopulationStore.COLLIDES_RIGHT : 0);
+
+	}
+
+	// Runs ticks until the generation is over
+	public void runGeneration(LearningManager learning) {
+
+		boolean generationOver = false;
+
+		while (!generationOver) {
+
+			generationOver = tick(learning);
+
+			// Records the first instance to reach the end
+			if (finishingInstance != null && !learning.generationIsComplete()) {
+
+				learning.setFinalInstance(finishingInstance);
+
+			}
+
+		}
+
+	}
+
+	/*
+	 * This method checks the collision of a GameObject with respect to another, and
+	 * returns the type of collision according to the constants in GameManager.
+	 */
+	private int checkCollision(GameObject movingCollisionObject, GameObject collisionObject) {
+
+		int collision = GameManager.NO_COLLISION;
+
+		if (collisionObject != null) {
+
+			/*
+			 * Direction is determined based on the previous frame and its location relative to the floor
+			 * colliding with it
+			 */
+			if (collisionObject.doesCollide(movingCollisionObject) && collisionObject != movingCollisionObject) {
+
+				GameRectangle previousFrame = movingCollisionObject.getPreviousFrame();
+
+				collision = collisionType(movingCollisionObject.getIntX(), movingCollisionObject.getIntY(),
+						movingCollisionObject.getIntWidth(), movingCollisionObject.getIntHeight(),
+						previousFrame.getIntX(), previousFrame.getIntY(), previousFrame.getIntWidth(), previousFrame.getIntHeight(),
+						collisionObject.getIntX(), collisionObject.getIntY(), collisionObject.getIntWidth(), collisionObject.getIntHeight());
+
+			}
+
+		}
+
+		return collision;
+
+	}
+
+	/*
+	 * Returns the type of collision between a moving rectangle, where it was in the previous frame, and
+	 * the rectangle it overlaps. Shared by the engine and the PopulationStepper.
+	 */
+	public static int collisionType(int x, int y, int width, int height, int previousX, int previousY, int previousWidth,
+			int previousHeight, int objectX, int objectY, int objectWidth, int objectHeight) {
+
+		/*
+		 * If the object's right side's x coordinate collided but
+		 * the previous frame's right side did not, assume a collision from the right
+		 * side
+		 */
+		if (objectX <= x + width && objectX >= previousX + previousWidth) {
+
+			return GameManager.RIGHT_COLLISION;
+
+		/*
+		 * If the objects's left side's x coordinate collides and the
+		 * previous frame's did not, assume a collision from the left side.
+		 */
+		} else if (objectX + objectWidth >= x && objectX + objectWidth <= previousX) {
+
+			return GameManager.LEFT_COLLISION;
+
+		/*
+		 * If the objects's top side's y coordinate collides, and the
+		 * previous frame's did not, assume a collision from the top.
+		 */
+		} else if (objectY + objectHeight >= y && objectY + objectHeight <= previousY) {
+
+			return GameManager.TOP_COLLISION;
+
+		/*
+		 * If the objects bottom side's y coordinate collides, but the previous frame's
+		 * y coordinate did not, then assume a collision from the bottom
+		 */
+		} else if (y + height >= objectY && previousY + previousHeight <= objectY) {
+
+			return GameManager.BOTTOM_COLLISION;
+
+		}
+
+		return GameManager.NO_COLLISION;
+
+	}
+
+	/*
+	 * This sets the collision objects of a character. Only the solid static objects sharing a cell with
+	 * the character are tested, in the order of the game objects. Characters do not collide with each other.
+	 */
+	private void setStaticCollisions(Character c) {
+
+		int found = spatialHash.queryStatic(c, -1);
+		int i = 0;
+
+		while (i < found) {
+
+			int index = spatialHash.getStaticResult(i);
+			GameObject o = spatialHash.getStaticObject(index);
+
+			collisionsTested++;
+
+			// If colliding an object then add a collision object.
+			if (o.doesCollide(c)) {
+
+				int oldX = c.getIntX();
+				int oldY = c.getIntY();
+
+				c.collision(checkCollision(c, o), o);
+
+				// If pushed out of the object, find the remaining objects near the new location
+				if (c.getIntX() != oldX || c.getIntY() != oldY) {
+
+					found = spatialHash.queryStatic(c, index);
+					i = 0;
+					continue;
+
+				}
+
+			}
+
+			i++;
+
+		}
+
+	}
+
+	/*
+	 * This sets the collision objects of a finish zone. Only the characters sharing a cell with it are
+	 * tested, as nothing else can reach the finish.
+	 */
+	private void setFinishCollisions(FinishZone c) {
+
+		int found = spatialHash.queryDynamic(c);
+
+		for (int i = 0; i < found; i++) {
+
+			Character o = spatialHash.getDynamicResult(i);
+
+			collisionsTested++;
+
+			// If colliding an object then add a collision object.
+			if (o.doesCollide(c)) {
+
+				c.collision(checkCollision(c, o), o);
+
+				// Remember the first instance a finish zone reports
+				if (o instanceof Instance && finishingInstance == null) {
+
+					finishingInstance = (Instance) o;
+
+				}
+
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,72 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  SnapshotBuffer
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Passes snapshots from the simulation to the window without either waiting on the
+	 * other. There are three snapshots: the one being filled, the one being drawn and the newest
+	 * finished one in between. Publishing swaps the filled snapshot with the middle one and reading
+	 * swaps the drawn one with it, each in a single atomic step, so neither side ever sees a snapshot
+	 * the other is using. Snapshots published faster than they are drawn are simply skipped.
+	 */
+
+package game_navigator;
+
+import java.util.concurrent.atomic.*;
+
+public class SnapshotBuffer {
+
+	// Set in the state when the middle snapshot has not been read yet
+	private static final int FRESH = 4;
+
+	// Picks the index of the middle snapshot out of the state
+	private static final int INDEX_MASK = 3;
+
+	// The three snapshots
+	private WorldSnapshot[] snapshots = {new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()};
+
+	// Index of the middle snapshot, and whether it is fresh
+	private AtomicInteger middle = new AtomicInteger(1);
+
+	// Index of the snapshot being filled, only used by the simulation
+	private int back = 0;
+
+	// Index of the snapshot being drawn, only used by the window
+	private int front = 2;
+
+	// Returns the snapshot to fill, only called by the thread publishing, one thread at a time
+	public WorldSnapshot getBack() {
+
+		return snapshots[back];
+
+	}
+
+	// Makes the filled snapshot the newest one and gets another to fill
+	public void publish() {
+
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+
+	}
+
+	// Returns whether a snapshot was published since the last one read
+	public boolean hasNew() {
+
+		return (middle.get() & FRESH) != 0;
+
+	}
+
+	// Returns the newest published snapshot, only called by the one thread drawing
+	public WorldSnapshot getLatest() {
+
+		if (hasNew()) {
+
+			front = middle.getAndSet(front) & INDEX_MASK;
+
+		}
+
+		return snapshots[front];
+
+	}
+
+}
@@ -0,0 +1,282 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  SpatialHash
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: A uniform grid over the map used to find which objects could be colliding without
+	 * testing every pair. The static map objects are placed in the grid once, while characters are moved
+	 * between cells as they move. Queries return candidates in the same order as the list of game objects
+	 * so that collisions are resolved exactly as they would be by checking every object.
+	 */
+
+package game_navigator;
+
+import java.util.*;
+
+public class SpatialHash {
+
+	// The static objects, in the order they appear in the game
+	private GameObject[] staticObjects;
+
+	// Grid of the static objects, and the query used to search it
+	private StaticGrid staticGrid;
+	private StaticGrid.Query staticQuery = new StaticGrid.Query();
+
+	// The characters inside every cell
+	private ArrayList<HashSet<DynamicEntry>> dynamicCells;
+	private int columns;
+
+	// The cells and order of every character in the grid
+	private IdentityHashMap<Character, DynamicEntry> dynamicEntries = new IdentityHashMap<Character, DynamicEntry>();
+	private long nextOrder;
+
+	// Results of the last dynamic query, and the query stamp used to avoid duplicates
+	private int queryStamp;
+	private ArrayList<DynamicEntry> dynamicResults = new ArrayList<DynamicEntry>();
+
+	// Range of cells covered by a rectangle, filled by cellRange
+	private int minColumn, minRow, maxColumn, maxRow;
+
+	// Creates the grid from the objects that never move, covering the area of the objects given
+	public SpatialHash(ArrayList<GameObject> statics, List<GameObject> area) {
+
+		staticObjects = statics.toArray(new GameObject[statics.size()]);
+		staticGrid = new StaticGrid(statics, area);
+		columns = staticGrid.getColumns();
+
+		// Empty lists of characters for every cell
+		dynamicCells = new ArrayList<HashSet<DynamicEntry>>(columns * staticGrid.getRows());
+
+		for (int c = 0; c < columns * staticGrid.getRows(); c++) {
+
+			dynamicCells.add(new HashSet<DynamicEntry>());
+
+		}
+
+	}
+
+	/*
+	 * Sets the range of cells covered by the rectangle, clamped to the grid. Returns false if the
+	 * rectangle is empty or outside the grid, in which case it cannot touch any static object.
+	 */
+	private boolean cellRange(GameRectangle r) {
+
+		if (r.getIntWidth() <= 0 || r.getIntHeight() <= 0) {
+
+			return false;
+
+		}
+
+		minColumn = staticGrid.firstColumn(r.getIntX());
+		minRow = staticGrid.firstRow(r.getIntY());
+		maxColumn = staticGrid.lastColumn(r.getIntX(), r.getIntWidth());
+		maxRow = staticGrid.lastRow(r.getIntY(), r.getIntHeight());
+
+		return minColumn <= maxColumn && minRow <= maxRow;
+
+	}
+
+	// Returns the static object with the given index
+	public GameObject getStaticObject(int index) {
+
+		return staticObjects[index];
+
+	}
+
+	// Returns the number of static objects
+	public int getStaticCount() {
+
+		return staticObjects.length;
+
+	}
+
+	/*
+	 * Finds the static objects sharing a cell with the rectangle whose index is greater than afterIndex.
+	 * Returns the number found, which are read in order with getStaticResult.
+	 */
+	public int queryStatic(GameRectangle r, int afterIndex) {
+
+		return staticGrid.query(r.getIntX(), r.getIntY(), r.getIntWidth(), r.getIntHeight(), afterIndex, staticQuery);
+
+	}
+
+	// Returns a result of the last static query
+	public int getStaticResult(int i) {
+
+		return staticQuery.get(i);
+
+	}
+
+	/*
+	 * Finds the characters sharing a cell with the rectangle. Returns the number found, which are read
+	 * in the order they were added with getDynamicResult.
+	 */
+	public int queryDynamic(GameRectangle r) {
+
+		dynamicResults.clear();
+		queryStamp++;
+
+		if (cellRange(r)) {
+
+			for (int row = minRow; row <= maxRow; row++) {
+
+				for (int column = minColumn; column <= maxColumn; column++) {
+
+					for (DynamicEntry entry : dynamicCells.get(row * columns + column)) {
+
+						// Only add each character once
+						if (entry.lastSeen != queryStamp) {
+
+							entry.lastSeen = queryStamp;
+							dynamicResults.add(entry);
+
+						}
+
+					}
+
+				}
+
+			}
+
+			Collections.sort(dynamicResults);
+
+		}
+
+		return dynamicResults.size();
+
+	}
+
+	// Returns a result of the last dynamic query
+	public Character getDynamicResult(int i) {
+
+		return dynamicResults.get(i).character;
+
+	}
+
+	// Adds a character to the grid
+	public void addDynamic(Character c) {
+
+		DynamicEntry entry = new DynamicEntry(c, nextOrder);
+		nextOrder++;
+
+		dynamicEntries.put(c, entry);
+		placeDynamic(entry);
+
+	}
+
+	// Removes a character from the grid
+	public void removeDynamic(Character c) {
+
+		DynamicEntry entry = dynamicEntries.remove(c);
+
+		if (entry != null) {
+
+			clearDynamic(entry);
+
+		}
+
+	}
+
+	// Moves a character to the cells at its current location
+	public void updateDynamic(Character c) {
+
+		DynamicEntry entry = dynamicEntries.get(c);
+
+		// Only change cells if it covers different ones
+		if (entry != null) {
+
+			boolean inside = cellRange(c);
+
+			if (inside != entry.inside || (inside && (minColumn != entry.minColumn || minRow != entry.minRow
+					|| maxColumn != entry.maxColumn || maxRow != entry.maxRow))) {
+
+				clearDynamic(entry);
+				placeDynamic(entry);
+
+			}
+
+		}
+
+	}
+
+	// Adds the character to every cell it covers
+	private void placeDynamic(DynamicEntry entry) {
+
+		entry.inside = cellRange(entry.character);
+
+		if (entry.inside) {
+
+			entry.minColumn = minColumn;
+			entry.minRow = minRow;
+			entry.maxColumn = maxColumn;
+			entry.maxRow = maxRow;
+
+			for (int row = minRow; row <= maxRow; row++) {
+
+				for (int column = minColumn; column <= maxColumn; column++) {
+
+					dynamicCells.get(row * columns + column).add(entry);
+
+				}
+
+			}
+
+		}
+
+	}
+
+	// Removes the character from the cells it was in
+	private void clearDynamic(DynamicEntry entry) {
+
+		if (entry.inside) {
+
+			for (int row = entry.minRow; row <= entry.maxRow; row++) {
+
+				for (int column = entry.minColumn; column <= entry.maxColumn; column++) {
+
+					dynamicCells.get(row * columns + column).remove(entry);
+
+				}
+
+			}
+
+			entry.inside = false;
+
+		}
+
+	}
+
+	/*
+	 * A character in the grid, with the cells it covers and the order it was added in so that
+	 * queries can return characters in the order of the game objects.
+	 */
+	private static class DynamicEntry implements Comparable<DynamicEntry> {
+
+		private Character character;
+		private long order;
+
+		private boolean inside;
+		private int minColumn, minRow, maxColumn, maxRow;
+
+		// Stamp of the last query that found this character
+		private int lastSeen;
+
+		DynamicEntry(Character c, long orderSet) {
+
+			character = c;
+			order = orderSet;
+
+		}
+
+		// Sorts by the order the characters were added
+		@Override
+		public int compareTo(DynamicEntry other) {
+
+			return Long.compare(order, other.order);
+
+		}
+
+	}
+
+}
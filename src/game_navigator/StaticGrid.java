@@ -0,0 +1,326 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  StaticGrid
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: A uniform grid of the rectangles that never move. It is built once and never changed, so
+	 * one grid can be shared by every thread. Each thread queries it with its own Query, which holds the
+	 * results sorted in the order the rectangles were given.
+	 */
+
+package game_navigator;
+
+import java.util.*;
+
+public class StaticGrid {
+
+	// Width and height of each cell in pixels
+	public static final int CELL_SIZE = 64;
+
+	// Position of the first cell and the number of cells in each direction
+	private int originX;
+	private int originY;
+	private int columns;
+	private int rows;
+
+	// For every cell, the rectangles inside it. Cell c owns cellObjects[cellStart[c]] to cellObjects[cellStart[c + 1]]
+	private int[] cellStart;
+	private int[] cellObjects;
+
+	// Dimensions of the rectangles
+	private int[] objectX;
+	private int[] objectY;
+	private int[] objectWidth;
+	private int[] objectHeight;
+
+	// Creates the grid from the rectangles given, covering the area of the objects given
+	public StaticGrid(List<? extends GameRectangle> statics, List<? extends GameRectangle> area) {
+
+		int count = statics.size();
+
+		objectX = new int[count];
+		objectY = new int[count];
+		objectWidth = new int[count];
+		objectHeight = new int[count];
+
+		for (int i = 0; i < count; i++) {
+
+			objectX[i] = statics.get(i).getIntX();
+			objectY[i] = statics.get(i).getIntY();
+			objectWidth[i] = statics.get(i).getIntWidth();
+			objectHeight[i] = statics.get(i).getIntHeight();
+
+		}
+
+		// Finds the area covered by the objects
+		int minX = 0;
+		int minY = 0;
+		int maxX = 0;
+		int maxY = 0;
+
+		for (int i = 0; i < area.size(); i++) {
+
+			GameRectangle o = area.get(i);
+
+			if (i == 0 || o.getIntX() < minX) {
+
+				minX = o.getIntX();
+
+			}
+
+			if (i == 0 || o.getIntY() < minY) {
+
+				minY = o.getIntY();
+
+			}
+
+			if (i == 0 || o.getIntX() + o.getIntWidth() > maxX) {
+
+				maxX = o.getIntX() + o.getIntWidth();
+
+			}
+
+			if (i == 0 || o.getIntY() + o.getIntHeight() > maxY) {
+
+				maxY = o.getIntY() + o.getIntHeight();
+
+			}
+
+		}
+
+		originX = Math.floorDiv(minX, CELL_SIZE);
+		originY = Math.floorDiv(minY, CELL_SIZE);
+		columns = Math.floorDiv(maxX, CELL_SIZE) - originX + 1;
+		rows = Math.floorDiv(maxY, CELL_SIZE) - originY + 1;
+
+		// Counts the rectangles in each cell, then fills the cells in order
+		cellStart = new int[columns * rows + 1];
+
+		for (int i = 0; i < count; i++) {
+
+			if (objectWidth[i] > 0 && objectHeight[i] > 0) {
+
+				for (int row = firstRow(objectY[i]); row <= lastRow(objectY[i], objectHeight[i]); row++) {
+
+					for (int column = firstColumn(objectX[i]); column <= lastColumn(objectX[i], objectWidth[i]); column++) {
+
+						cellStart[row * columns + column + 1]++;
+
+					}
+
+				}
+
+			}
+
+		}
+
+		for (int c = 0; c < columns * rows; c++) {
+
+			cellStart[c + 1] += cellStart[c];
+
+		}
+
+		cellObjects = new int[cellStart[columns * rows]];
+		int[] filled = new int[columns * rows];
+
+		for (int i = 0; i < count; i++) {
+
+			if (objectWidth[i] > 0 && objectHeight[i] > 0) {
+
+				for (int row = firstRow(objectY[i]); row <= lastRow(objectY[i], objectHeight[i]); row++) {
+
+					for (int column = firstColumn(objectX[i]); column <= lastColumn(objectX[i], objectWidth[i]); column++) {
+
+						int cell = row * columns + column;
+						cellObjects[cellStart[cell] + filled[cell]] = i;
+						filled[cell]++;
+
+					}
+
+				}
+
+			}
+
+		}
+
+	}
+
+	// Returns the first column covered by something starting at x, clamped to the grid
+	public int firstColumn(int x) {
+
+		return Math.max(Math.floorDiv(x, CELL_SIZE) - originX, 0);
+
+	}
+
+	// Returns the last column covered by something starting at x, clamped to the grid
+	public int lastColumn(int x, int width) {
+
+		return Math.min(Math.floorDiv(x + width - 1, CELL_SIZE) - originX, columns - 1);
+
+	}
+
+	// Returns the first row covered by something starting at y, clamped to the grid
+	public int firstRow(int y) {
+
+		return Math.max(Math.floorDiv(y, CELL_SIZE) - originY, 0);
+
+	}
+
+	// Returns the last row covered by something starting at y, clamped to the grid
+	public int lastRow(int y, int height) {
+
+		return Math.min(Math.floorDiv(y + height - 1, CELL_SIZE) - originY, rows - 1);
+
+	}
+
+	// Returns the number of columns in the grid
+	public int getColumns() {
+
+		return this.columns;
+
+	}
+
+	// Returns the number of rows in the grid
+	public int getRows() {
+
+		return this.rows;
+
+	}
+
+	// Returns the number of rectangles in the grid
+	public int getObjectCount() {
+
+		return objectX.length;
+
+	}
+
+	/*
+	 * Finds the rectangles sharing a cell with the given one whose index is greater than afterIndex.
+	 * Returns the number found, which are stored in order in the query.
+	 */
+	public int query(int x, int y, int width, int height, int afterIndex, Query q) {
+
+		q.count = 0;
+
+		if (width <= 0 || height <= 0) {
+
+			return 0;
+
+		}
+
+		int lastRow = lastRow(y, height);
+		int lastColumn = lastColumn(x, width);
+
+		for (int row = firstRow(y); row <= lastRow; row++) {
+
+			for (int column = firstColumn(x); column <= lastColumn; column++) {
+
+				int cell = row * columns + column;
+
+				for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+
+					if (cellObjects[i] > afterIndex) {
+
+						q.add(cellObjects[i]);
+
+					}
+
+				}
+
+			}
+
+		}
+
+		// Sorts into the order of the rectangles, removing rectangles found in more than one cell
+		Arrays.sort(q.results, 0, q.count);
+
+		int unique = 0;
+
+		for (int i = 0; i < q.count; i++) {
+
+			if (i == 0 || q.results[i] != q.results[i - 1]) {
+
+				q.results[unique] = q.results[i];
+				unique++;
+
+			}
+
+		}
+
+		q.count = unique;
+
+		return unique;
+
+	}
+
+	// Returns whether the rectangle with the given index overlaps the one given
+	public boolean intersects(int index, int x, int y, int width, int height) {
+
+		return width > 0 && height > 0 && objectWidth[index] > 0 && objectHeight[index] > 0
+				&& objectX[index] < x + width && x < objectX[index] + objectWidth[index]
+				&& objectY[index] < y + height && y < objectY[index] + objectHeight[index];
+
+	}
+
+	// Returns the x coordinate of a rectangle
+	public int getX(int index) {
+
+		return objectX[index];
+
+	}
+
+	// Returns the y coordinate of a rectangle
+	public int getY(int index) {
+
+		return objectY[index];
+
+	}
+
+	// Returns the width of a rectangle
+	public int getWidth(int index) {
+
+		return objectWidth[index];
+
+	}
+
+	// Returns the height of a rectangle
+	public int getHeight(int index) {
+
+		return objectHeight[index];
+
+	}
+
+	/*
+	 * The results of a query. Each thread uses its own, so the grid itself is never written to
+	 * after it is built.
+	 */
+	public static class Query {
+
+		private int[] results = new int[16];
+		private int count;
+
+		// Adds a result, growing the array if needed
+		private void add(int index) {
+
+			if (count == results.length) {
+
+				results = Arrays.copyOf(results, count * 2);
+
+			}
+
+			results[count] = index;
+			count++;
+
+		}
+
+		// Returns the result at the given position
+		public int get(int i) {
+
+			return results[i];
+
+		}
+
+	}
+
+}
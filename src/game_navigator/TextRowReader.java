@@ -0,0 +1,280 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  TextRowReader
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Reads the text files of the game one token at a time, straight from a fixed size buffer
+	 * over the file. Numbers and true / false values are parsed from the bytes without making a String
+	 * for each token, and only the part of the file in the buffer is held in memory, so files of any size
+	 * can be read. Tokens are separated by spaces and rows by new lines.
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.Arrays;
+
+public class TextRowReader implements Closeable {
+
+	// Number of bytes of the file held at once
+	public static final int BUFFER_SIZE = 64 * 1024;
+
+	// The only word read as true
+	private static final String[] TRUE = {"true"};
+
+	// The file and the part of it that has been read
+	private FileChannel channel;
+	private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+	// Opens a file for reading
+	public TextRowReader(String fileName) throws IOException {
+
+		channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+
+		buffer.flip();
+
+	}
+
+	// Returns whether there is another token before the end of the row
+	public boolean hasNextToken() throws IOException {
+
+		skipSpaces();
+
+		int next = peek();
+
+		return next != -1 && next != '\n';
+
+	}
+
+	// Returns whether there is anything left in the file
+	public boolean hasNextRow() throws IOException {
+
+		return peek() != -1;
+
+	}
+
+	// Skips what is left of the row, moving to the start of the next one
+	public void nextRow() throws IOException {
+
+		int next = read();
+
+		while (next != -1 && next != '\n') {
+
+			next = read();
+
+		}
+
+	}
+
+	// Reads the next token of the row as a whole number
+	public long nextLong() throws IOException {
+
+		if (!hasNextToken()) {
+
+			throw new NumberFormatException("Missing number");
+
+		}
+
+		boolean negative = false;
+
+		if (peek() == '-' || peek() == '+') {
+
+			negative = read() == '-';
+
+		}
+
+		long value = 0;
+		int digits = 0;
+
+		while (isDigit(peek())) {
+
+			value = value * 10 + (read() - '0');
+			digits++;
+
+		}
+
+		if (digits == 0 || !atTokenEnd()) {
+
+			throw new NumberFormatException("Not a number");
+
+		}
+
+		return negative ? -value : value;
+
+	}
+
+	// Reads the next token of the row as a whole number that fits in an int
+	public int nextInt() throws IOException {
+
+		long value = nextLong();
+
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+
+			throw new NumberFormatException("Number out of range");
+
+		}
+
+		return (int) value;
+
+	}
+
+	// Reads the next token of the row, returning true only if it is "true"
+	public boolean nextBoolean() throws IOException {
+
+		return nextKeyword(TRUE) == 0;
+
+	}
+
+	/*
+	 * Reads the next token of the row and returns which of the words it is, or -1 if it is none of
+	 * them. The token is compared byte by byte without making a String.
+	 */
+	public int nextKeyword(String[] words) throws IOException {
+
+		if (!hasNextToken()) {
+
+			throw new NumberFormatException("Missing word");
+
+		}
+
+		// Words that still match the token read so far
+		boolean[] matching = new boolean[words.length];
+		Arrays.fill(matching, true);
+
+		int length = 0;
+
+		while (!atTokenEnd()) {
+
+			int next = read();
+
+			for (int w = 0; w < words.length; w++) {
+
+				matching[w] = matching[w] && length < words[w].length() && words[w].charAt(length) == next;
+
+			}
+
+			length++;
+
+		}
+
+		for (int w = 0; w < words.length; w++) {
+
+			if (matching[w] && words[w].length() == length) {
+
+				return w;
+
+			}
+
+		}
+
+		return -1;
+
+	}
+
+	// Reads the next token of the row as a String
+	public String nextToken() throws IOException {
+
+		if (!hasNextToken()) {
+
+			throw new NumberFormatException("Missing token");
+
+		}
+
+		ByteArrayOutputStream token = new ByteArrayOutputStream();
+
+		while (!atTokenEnd()) {
+
+			token.write(read());
+
+		}
+
+		return token.toString("UTF-8");
+
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		channel.close();
+
+	}
+
+	// Skips spaces, tabs and carriage returns, but not the end of the row
+	private void skipSpaces() throws IOException {
+
+		int next = peek();
+
+		while (next == ' ' || next == '\t' || next == '\r') {
+
+			read();
+			next = peek();
+
+		}
+
+	}
+
+	// Returns whether the current token has been read completely
+	private boolean atTokenEnd() throws IOException {
+
+		int next = peek();
+
+		return next == -1 || next == ' ' || next == '\t' || next == '\r' || next == '\n';
+
+	}
+
+	private static boolean isDigit(int b) {
+
+		return b >= '0' && b <= '9';
+
+	}
+
+	// Returns the next byte without reading it, or -1 at the end of the file
+	private int peek() throws IOException {
+
+		if (!buffer.hasRemaining() && !fill()) {
+
+			return -1;
+
+		}
+
+		return buffer.get(buffer.position()) & 0xFF;
+
+	}
+
+	// Reads the next byte, or returns -1 at the end of the file
+	private int read() throws IOException {
+
+		if (!buffer.hasRemaining() && !fill()) {
+
+			return -1;
+
+		}
+
+		return buffer.get() & 0xFF;
+
+	}
+
+	// Reads the next part of the file into the buffer, returning false at the end of the file
+	private boolean fill() throws IOException {
+
+		buffer.clear();
+
+		int read = 0;
+
+		while (read == 0) {
+
+			read = channel.read(buffer);
+
+		}
+
+		buffer.flip();
+
+		return read > 0;
+
+	}
+
+}
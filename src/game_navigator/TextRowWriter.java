@@ -0,0 +1,195 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  TextRowWriter
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: Writes the text files of the game one value at a time into a buffer that is written to
+	 * the file whenever it fills. Numbers are turned into digits directly in the buffer, and each thread
+	 * keeps one buffer that is used again for every file it writes, so no line is ever built up as a
+	 * String.
+	 */
+
+package game_navigator;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+
+public class TextRowWriter implements Closeable {
+
+	// Number of bytes written to the file at once
+	public static final int BUFFER_SIZE = 64 * 1024;
+
+	// The buffer of each thread, used again for every file. Empty while one of its files is open
+	private static final ThreadLocal<ByteBuffer> BUFFERS = new ThreadLocal<ByteBuffer>();
+
+	// The file and the bytes not yet written to it
+	private FileChannel channel;
+	private ByteBuffer buffer;
+
+	// Digits of a number, from last to first
+	private byte[] digits = new byte[20];
+
+	// Creates or empties a file for writing
+	public TextRowWriter(String fileName) throws IOException {
+
+		channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+		// Takes the thread's buffer, or makes one if another file of the thread is open
+		buffer = BUFFERS.get();
+		BUFFERS.set(null);
+
+		if (buffer == null) {
+
+			buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		}
+
+		buffer.clear();
+
+	}
+
+	// Writes a whole number
+	public TextRowWriter putLong(long value) throws IOException {
+
+		if (value == Long.MIN_VALUE) {
+
+			return putString(Long.toString(value));
+
+		}
+
+		if (value < 0) {
+
+			putByte('-');
+			value = -value;
+
+		}
+
+		int count = 0;
+
+		do {
+
+			digits[count++] = (byte) ('0' + value % 10);
+			value /= 10;
+
+		} while (value != 0);
+
+		while (count > 0) {
+
+			putByte(digits[--count]);
+
+		}
+
+		return this;
+
+	}
+
+	// Writes a whole number
+	public TextRowWriter putInt(int value) throws IOException {
+
+		return putLong(value);
+
+	}
+
+	// Writes true or false
+	public TextRowWriter putBoolean(boolean value) throws IOException {
+
+		return putString(value ? "true" : "false");
+
+	}
+
+	// Writes text
+	public TextRowWriter putString(String value) throws IOException {
+
+		for (int i = 0; i < value.length(); i++) {
+
+			char c = value.charAt(i);
+
+			// Anything but plain ASCII is encoded as a whole
+			if (c >= 0x80) {
+
+				for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+
+					putByte(b);
+
+				}
+
+				return this;
+
+			}
+
+			putByte(c);
+
+		}
+
+		return this;
+
+	}
+
+	// Writes the space that follows every token of a row
+	public TextRowWriter putSeparator() throws IOException {
+
+		return putByte(' ');
+
+	}
+
+	// Ends the row
+	public TextRowWriter endRow() throws IOException {
+
+		return putByte('\n');
+
+	}
+
+	// Writes what is left in the buffer and closes the file
+	@Override
+	public void close() throws IOException {
+
+		try {
+
+			drain();
+
+		} finally {
+
+			channel.close();
+
+			// Gives the buffer back to the thread
+			BUFFERS.set(buffer);
+
+		}
+
+	}
+
+	// Adds a byte, writing the buffer to the file first if it is full
+	private TextRowWriter putByte(int b) throws IOException {
+
+		if (!buffer.hasRemaining()) {
+
+			drain();
+
+		}
+
+		buffer.put((byte) b);
+
+		return this;
+
+	}
+
+	// Writes the buffer to the file and empties it
+	private void drain() throws IOException {
+
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+
+			channel.write(buffer);
+
+		}
+
+		buffer.clear();
+
+	}
+
+}
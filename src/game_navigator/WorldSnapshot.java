@@ -0,0 +1,100 @@
+	/*
+	 * Project: Game Navigator
+	 * Package: game_navigator
+	 * Class:  WorldSnapshot
+	 * Programmer: Peter Alpajaro
+	 * Date Created: 10/18/2026
+	 * Description: What the screen needs of one moment of the game: where each character is, its
+	 * color, how many are alive and the countdown number. The simulation fills a snapshot and hands it to the window
+	 * through a SnapshotBuffer, so the window never reads the engine while it is changing. The arrays
+	 * are kept and filled again each time, only growing when there are more characters.
+	 */
+
+package game_navigator;
+
+public class WorldSnapshot {
+
+	// Number of values kept for each character: x, y, width and height
+	public static final int RECTANGLE_SIZE = 4;
+
+	// Number of characters in the snapshot, and how many of them are alive
+	private int count;
+	private int aliveCount;
+
+	// Rectangle and color of each character
+	private int[] rectangles = new int[0];
+	private int[] colors = new int[0];
+
+	// The countdown number at this moment
+	private int countdownNumber;
+
+	// Copies the characters and the time remaining from the engine
+	public void capture(SimulationEngine engine) {
+
+		java.util.ArrayList<Instance> instances = engine.getInstances();
+
+		count = instances.size();
+		aliveCount = 0;
+
+		if (colors.length < count) {
+
+			rectangles = new int[count * RECTANGLE_SIZE];
+			colors = new int[count];
+
+		}
+
+		for (int i = 0; i < count; i++) {
+
+			Instance c = instances.get(i);
+
+			rectangles[i * RECTANGLE_SIZE] = (int) c.getX();
+			rectangles[i * RECTANGLE_SIZE + 1] = (int) c.getY();
+			rectangles[i * RECTANGLE_SIZE + 2] = (int) c.getWidth();
+			rectangles[i * RECTANGLE_SIZE + 3] = (int) c.getHeight();
+			colors[i] = c.getColor().getRGB();
+
+			if (c.isAlive()) {
+
+				aliveCount++;
+
+			}
+
+		}
+
+		countdownNumber = engine.getTimeRemaining() / 1000;
+
+	}
+
+	public int getCount() {
+
+		return this.count;
+
+	}
+
+	public int getAliveCount() {
+
+		return this.aliveCount;
+
+	}
+
+	// Returns the rectangles, RECTANGLE_SIZE values for each character
+	public int[] getRectangles() {
+
+		return this.rectangles;
+
+	}
+
+	// Returns the color of each character as RGB
+	public int[] getColors() {
+
+		return this.colors;
+
+	}
+
+	public int getCountdownNumber() {
+
+		return this.countdownNumber;
+
+	}
+
+}